@@ -0,0 +1,168 @@
+package com.company;
+
+/**
+ * Imports
+ */
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AssetPreloader class
+ * <p>This class decodes every texture registered in the TextureReference in parallel (On a fork-join pool) before the
+ * first frame is drawn, so the game objects only ever hit the texture cache</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class AssetPreloader {
+
+    /**
+     * Listens to the preloading progress (ie. to draw a loading bar)
+     */
+    public interface ProgressListener {
+
+        /**
+         * Called once per texture, from the decoding thread
+         *
+         * @param texture    Texture name
+         * @param loaded     Number of textures processed so far
+         * @param total      Total number of textures
+         * @param decodeTime Decode time of this texture in nanoseconds (-1 if it failed)
+         */
+        void onProgress(String texture, int loaded, int total, long decodeTime);
+    }
+
+    /**
+     * Objects, Variables, Components, ...
+     */
+    private final List<String> textures;                                            // Textures to preload
+    private final ForkJoinPool pool;                                                // Decoding pool
+    private final List<ProgressListener> listeners = new CopyOnWriteArrayList<>();  // Progress listeners
+    private final Map<String, Long> decodeTimes = new ConcurrentHashMap<>();        // Decode time of each texture (Nanoseconds)
+    private final Map<String, Exception> failures = new ConcurrentHashMap<>();      // Textures that could not be decoded
+    private final AtomicInteger loaded = new AtomicInteger();                       // Number of processed textures
+    private volatile ForkJoinTask<?> task;                                          // Running preload task
+    private volatile long startTime, endTime;                                       // Preloading time span (Nanoseconds)
+
+    /**
+     * Object Constructor
+     * <p>Preloads every texture of the TextureReference using one thread per core</p>
+     */
+    public AssetPreloader() {
+        this(TextureReference.getTextureNames(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Object Constructor
+     *
+     * @param textures    Textures to preload
+     * @param parallelism Number of decoding threads
+     */
+    public AssetPreloader(List<String> textures, int parallelism) {
+        this.textures = new ArrayList<>(textures);
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+
+    /**
+     * Adds a progress listener (Must be added before the preloading starts)
+     *
+     * @param listener Progress listener
+     */
+    public void addListener(ProgressListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Starts decoding the textures in the background
+     */
+    public synchronized void start() {
+        if (task != null)
+            return;
+
+        startTime = System.nanoTime();
+        task = pool.submit(() -> {
+            textures.parallelStream().forEach(this::load);
+            endTime = System.nanoTime();
+        });
+    }
+
+    /**
+     * Blocks until every texture has been processed, then releases the decoding threads
+     */
+    public void await() {
+        start();
+        task.join();
+        pool.shutdown();
+    }
+
+    /**
+     * Decodes a single texture into the TextureReference cache
+     *
+     * @param texture Texture name
+     */
+    private void load(String texture) {
+        long start = System.nanoTime(), decodeTime;
+        try {
+            TextureReference.getTexture(texture);
+            decodeTime = System.nanoTime() - start;
+            decodeTimes.put(texture, decodeTime);
+        } catch (Exception ex) {
+            decodeTime = -1;
+            failures.put(texture, ex);
+        }
+
+        int loaded = this.loaded.incrementAndGet();
+        for (ProgressListener listener : listeners)
+            listener.onProgress(texture, loaded, textures.size(), decodeTime);
+    }
+
+    /**
+     * Indicates whether preloading has finished or not
+     *
+     * @return Done status
+     */
+    public boolean isDone() {
+        return task != null && task.isDone();
+    }
+
+    /**
+     * Getter
+     *
+     * @return Preloading progress (0 to 1)
+     */
+    public double getProgress() {
+        return textures.isEmpty() ? 1 : loaded.get() / (double) textures.size();
+    }
+
+    /**
+     * Getter
+     *
+     * @return Decode time of each loaded texture in nanoseconds
+     */
+    public Map<String, Long> getDecodeTimes() {
+        return Collections.unmodifiableMap(decodeTimes);
+    }
+
+    /**
+     * Getter
+     *
+     * @return Textures that could not be decoded & the cause
+     */
+    public Map<String, Exception> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Getter
+     *
+     * @return Wall time of the whole preloading in milliseconds
+     */
+    public long getElapsedTime() {
+        return TimeUnit.NANOSECONDS.toMillis((isDone() ? endTime : System.nanoTime()) - startTime);
+    }
+}
\ No newline at end of file
@@ -6,13 +6,14 @@ package com.company.CarePackage;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.util.Date;
 import java.util.Random;
 
 /**
  * Packages
  */
+import com.company.GameLoop;
 import com.company.Tank;
+import com.company.TextureReference;
 
 /**
  * CarePackage class
@@ -31,13 +32,15 @@ public abstract class CarePackage {
     private boolean used = false;                       // Care package's used status
     private Tank tank;                                  // Tank object the package has effects on
     private long actionStartDate;                       // The time of the initial effect
-    private BufferedImage icon;                         // Care package's icon
+    private double time;                                // Simulated time since the package was spawned (Milliseconds)
+    private BufferedImage icon;                         // Care package's icon (Loaded on first draw)
+    private String iconName;                            // Care package's icon texture name
     private double xScale = 0.3d, yScale = 0.3d;        // Care package's scale
     private boolean remove = false;                     // Indicates if the package is to be removed
     private final int lifeSpan = 40000;                 // Indicates how long a package must exist
     private float opacity = (float) 1.0;                // Just for more advanced visual effect
     private double maxScale = 0.35, minScale = 0.3;     // Max & min scale for beat animation
-    protected String carePackageID;                     // Care package's ID
+    protected long carePackageID;                       // Care package's ID (See IDAllocator)
     private int sign;
     public boolean isTransferred;                       // Indicates whether the obj is async with other players
 
@@ -51,38 +54,49 @@ public abstract class CarePackage {
         this.isTransferred = false;
 
         // Set starting time
-        this.actionStartDate = new Date().getTime();
+        this.time = 0;
+        this.actionStartDate = getTime();
         this.sign = new Random().nextBoolean() ? 1 : -1;
     }
 
     /**
-     * Draws the object
+     * Advances the package's clock & animates the object (Beats while unused, grows & fades out once used)
      *
-     * @param g2d Graphics2D
+     * @param dt Length of the tick (Seconds)
      */
-    public void draw(Graphics2D g2d) {
-
-        AffineTransform at = new AffineTransform();
-
-        at.translate(getX(), getY());
-        at.translate(-getIcon().getWidth() * this.xScale / (float) 2, -getIcon().getHeight() * this.yScale / (float) 2);
+    public void update(double dt) {
+        double ticks = dt * GameLoop.TICK_RATE;     // Animation steps are tuned per default tick
 
-        // Draw the package
-        if (opacity >= 0)
-            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));
+        this.time += dt * 1000;
 
         if (used) {
-            opacity -= 0.05;
-            at.scale(this.xScale += 0.01, this.yScale += 0.01);
+            opacity = (float) Math.max(0, opacity - 0.05 * ticks);
+            this.xScale += 0.01 * ticks;
+            this.yScale += 0.01 * ticks;
         } else {
-            at.scale(this.xScale, this.yScale);
-            this.xScale += 0.002 * this.sign;
-            this.yScale += 0.002 * this.sign;
+            this.xScale += 0.002 * this.sign * ticks;
+            this.yScale += 0.002 * this.sign * ticks;
 
             if (this.xScale >= this.maxScale || this.xScale <= this.minScale)
                 sign *= -1;
         }
+    }
 
+    /**
+     * Renders the object
+     *
+     * @param g2d Graphics2D
+     */
+    public void render(Graphics2D g2d) {
+
+        AffineTransform at = new AffineTransform();
+
+        at.translate(getX(), getY());
+        at.translate(-getIcon().getWidth() * this.xScale / (float) 2, -getIcon().getHeight() * this.yScale / (float) 2);
+        at.scale(this.xScale, this.yScale);
+
+        // Draw the package
+        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));
         g2d.drawImage(getIcon(), at, null);
     }
 
@@ -114,7 +128,7 @@ public abstract class CarePackage {
      * @return Execution time
      */
     public long timeDif(long start) {
-        return Math.abs(start - new Date().getTime());
+        return Math.abs(start - getTime());
     }
 
     /**
@@ -176,6 +190,15 @@ public abstract class CarePackage {
         return tank;
     }
 
+    /**
+     * Getter
+     *
+     * @return Simulated time since the package was spawned (Milliseconds)
+     */
+    public long getTime() {
+        return (long) time;
+    }
+
     /**
      * Getter
      *
@@ -188,9 +211,11 @@ public abstract class CarePackage {
     /**
      * Getter
      *
-     * @return Care package's icon
+     * @return Care package's icon (Loaded on first call)
      */
     public BufferedImage getIcon() {
+        if (icon == null)
+            icon = TextureReference.loadTexture(iconName);
         return icon;
     }
 
@@ -208,10 +233,19 @@ public abstract class CarePackage {
      *
      * @return Package ID
      */
-    public String getCarePackageID() {
+    public long getCarePackageID() {
         return carePackageID;
     }
 
+    /**
+     * Setter
+     *
+     * @param carePackageID Package ID (ie. the sender's ID of a received package)
+     */
+    public void setCarePackageID(long carePackageID) {
+        this.carePackageID = carePackageID;
+    }
+
     /**
      * Getter
      *
@@ -239,6 +273,16 @@ public abstract class CarePackage {
         this.icon = icon;
     }
 
+    /**
+     * Setter
+     *
+     * @param iconName Care package's icon texture name (Loaded on the next draw)
+     */
+    public void setIconName(String iconName) {
+        this.iconName = iconName;
+        this.icon = null;
+    }
+
     /**
      * Setter
      *
@@ -3,7 +3,6 @@ package com.company.CarePackage;
 /**
  * Imports
  */
-import java.util.Date;
 import java.util.List;
 
 /**
@@ -23,7 +22,8 @@ public class CarePackageGenerator {
     /**
      * Objects, Variables, Components, ...
      */
-    private long startPoint;
+    private double startPoint;          // Simulated time of the last spawn (Milliseconds)
+    private double time;                // Simulated time since the generator was created (Milliseconds)
     private final List<Tile> tiles;
 
     /**
@@ -32,7 +32,8 @@ public class CarePackageGenerator {
      * @param tiles List of tiles
      */
     public CarePackageGenerator(List<Tile> tiles) {
-        startPoint = new Date().getTime();
+        startPoint = 0;
+        time = 0;
         this.tiles = tiles;
     }
 
@@ -42,30 +43,44 @@ public class CarePackageGenerator {
      * @param x    X-Axis
      * @param y    Y-Axis
      * @param type Type of the package (ie. ghost, ...)
+     * @return The added package (Null if the type is unknown)
      */
-    public void spawnPerk(int x, int y, String type, List<CarePackage> carePackages) {
+    public CarePackage spawnPerk(int x, int y, String type, List<CarePackage> carePackages) {
+        CarePackage carePackage = null;
         switch (type) {
             case "ghost":
-                carePackages.add(new Ghost(x, y));
+                carePackage = new Ghost(x, y);
                 break;
             case "health":
-                carePackages.add(new Health(x, y));
+                carePackage = new Health(x, y);
                 break;
             case "shield":
-                carePackages.add(new Shield(x, y));
+                carePackage = new Shield(x, y);
                 break;
             case "power":
-                carePackages.add(new Power(x, y));
+                carePackage = new Power(x, y);
                 break;
             case "speed":
-                carePackages.add(new Speed(x, y));
+                carePackage = new Speed(x, y);
                 break;
             case "lazer":
-                carePackages.add(new Laser(x, y));
+                carePackage = new Laser(x, y);
                 break;
         }
 
-        startPoint = new Date().getTime();
+        if (carePackage != null)
+            carePackages.add(carePackage);
+        startPoint = time;
+        return carePackage;
+    }
+
+    /**
+     * Advances the generator's clock
+     *
+     * @param dt Length of the tick (Seconds)
+     */
+    public void update(double dt) {
+        time += dt * 1000;
     }
 
     /**
@@ -74,6 +89,6 @@ public class CarePackageGenerator {
      * @return Execution time
      */
     public long timeDif() {
-        return Math.abs(startPoint - new Date().getTime());
+        return (long) Math.abs(startPoint - time);
     }
 }
\ No newline at end of file
@@ -3,18 +3,14 @@ package com.company.CarePackage;
 /**
  * Imports
  */
-import java.io.File;
-import java.util.Date;
 import java.util.List;
 
 /**
  * Packages
  */
+import com.company.Network.IDAllocator;
 import com.company.Tank;
 import com.company.Obstacles.Tile;
-import com.company.TextureReference;
-
-import javax.imageio.ImageIO;
 
 /**
  * Health class
@@ -33,12 +29,8 @@ public class Ghost extends CarePackage {
      */
     public Ghost(int x, int y) {
         super(x, y);
-        try {
-            setIcon(ImageIO.read(new File(TextureReference.getPath("ghost"))));
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        this.carePackageID = "@ghost" + System.currentTimeMillis();
+        setIconName("ghost");
+        this.carePackageID = IDAllocator.next();
     }
 
     /**
@@ -50,7 +42,7 @@ public class Ghost extends CarePackage {
     public void doAction(Tank tank) {
         tank.setGhost(true);
         setUsed(true);
-        setActionStartDate(new Date().getTime());
+        setActionStartDate(getTime());
         activateBuff();
     }
 
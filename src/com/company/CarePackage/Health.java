@@ -3,17 +3,14 @@ package com.company.CarePackage;
 /**
  * Imports
  */
-import java.io.File;
 import java.util.List;
 
 /**
  * Packages
  */
+import com.company.Network.IDAllocator;
 import com.company.Tank;
 import com.company.Obstacles.Tile;
-import com.company.TextureReference;
-
-import javax.imageio.ImageIO;
 
 /**
  * Health class
@@ -32,12 +29,8 @@ public class Health extends CarePackage {
      */
     public Health(int x, int y) {
         super(x, y);
-        try {
-            setIcon(ImageIO.read(new File(TextureReference.getPath("joggernog"))));
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        this.carePackageID = "@health" + System.currentTimeMillis();
+        setIconName("joggernog");
+        this.carePackageID = IDAllocator.next();
     }
 
     /**
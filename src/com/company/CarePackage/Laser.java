@@ -3,17 +3,14 @@ package com.company.CarePackage;
 /**
  * Imports
  */
-import java.io.File;
 import java.util.List;
 
 /**
  * Packages
  */
+import com.company.Network.IDAllocator;
 import com.company.Tank;
 import com.company.Obstacles.Tile;
-import com.company.TextureReference;
-
-import javax.imageio.ImageIO;
 
 /**
  * Laser class
@@ -32,12 +29,8 @@ public class Laser extends CarePackage {
      */
     public Laser(int x, int y) {
         super(x, y);
-        try {
-            setIcon(ImageIO.read(new File(TextureReference.getPath("laser"))));
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        this.carePackageID = "@laser" + System.currentTimeMillis();
+        setIconName("laser");
+        this.carePackageID = IDAllocator.next();
     }
 
     /**
@@ -3,16 +3,14 @@ package com.company.CarePackage;
 /**
  * Imports
  */
-import java.io.File;
 import java.util.List;
-import javax.imageio.ImageIO;
 
 /**
  * Packages
  */
+import com.company.Network.IDAllocator;
 import com.company.Tank;
 import com.company.Obstacles.Tile;
-import com.company.TextureReference;
 
 /**
  * Power class
@@ -36,12 +34,8 @@ public class Power extends CarePackage {
      */
     public Power(int x, int y) {
         super(x, y);
-        try {
-            setIcon(ImageIO.read(new File(TextureReference.getPath("deadshot"))));
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        this.carePackageID = "@power" + System.currentTimeMillis();
+        setIconName("deadshot");
+        this.carePackageID = IDAllocator.next();
 
         int max = 3, min = 2;
         firePower = (int) (Math.random() * (max - min + 1) + min);
@@ -3,18 +3,14 @@ package com.company.CarePackage;
 /**
  * Imports
  */
-import java.io.File;
-import java.util.Date;
 import java.util.List;
 
 /**
  * Packages
  */
+import com.company.Network.IDAllocator;
 import com.company.Tank;
 import com.company.Obstacles.Tile;
-import com.company.TextureReference;
-
-import javax.imageio.ImageIO;
 
 /**
  * Shield class
@@ -33,12 +29,8 @@ public class Shield extends CarePackage {
      */
     public Shield(int x, int y) {
         super(x, y);
-        try {
-            setIcon(ImageIO.read(new File(TextureReference.getPath("shield"))));
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        this.carePackageID = "@shield" + System.currentTimeMillis();
+        setIconName("shield");
+        this.carePackageID = IDAllocator.next();
     }
 
     /**
@@ -50,7 +42,7 @@ public class Shield extends CarePackage {
     public void doAction(Tank tank) {
         tank.setShield(true);
         setUsed(true);
-        setActionStartDate(new Date().getTime());
+        setActionStartDate(getTime());
         activateBuff();
     }
 
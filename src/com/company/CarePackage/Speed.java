@@ -3,18 +3,14 @@ package com.company.CarePackage;
 /**
  * Imports
  */
-import java.io.File;
-import java.util.Date;
 import java.util.List;
 
 /**
  * Packages
  */
+import com.company.Network.IDAllocator;
 import com.company.Tank;
 import com.company.Obstacles.Tile;
-import com.company.TextureReference;
-
-import javax.imageio.ImageIO;
 
 /**
  * Health class
@@ -38,12 +34,8 @@ public class Speed extends CarePackage {
      */
     public Speed(int x, int y) {
         super(x, y);
-        try {
-            setIcon(ImageIO.read(new File(TextureReference.getPath("stamina"))));
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        this.carePackageID = "@speed" + System.currentTimeMillis();
+        setIconName("stamina");
+        this.carePackageID = IDAllocator.next();
     }
 
     /**
@@ -56,7 +48,7 @@ public class Speed extends CarePackage {
         tankThrust = tank.getThrust();
         tank.setThrust((int) (tankThrust * 1.5));
         setUsed(true);
-        setActionStartDate(new Date().getTime());
+        setActionStartDate(getTime());
         activateBuff();
     }
 
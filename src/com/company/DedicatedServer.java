@@ -0,0 +1,122 @@
+package com.company;
+
+/**
+ * Imports
+ */
+import java.awt.Dimension;
+
+/**
+ * Packages
+ */
+import com.company.Network.DatagramTransport;
+
+/**
+ * DedicatedServer class
+ * <p>This class runs an authoritative match without a display. The server owns the state of the game, ticks it at a
+ * fixed rate, applies the inputs of its clients and broadcasts the state of everyone. Clients (See GameManager.Role)
+ * only send their input and render what the server says, so every hit & care package is decided once</p>
+ *
+ * <p>Note that the map is centered on the given screen size & its fences are rolled here. Clients lay their map out the
+ * same way as they join (See MapState), so they should have a screen at least as large</p>
+ *
+ * <p>Usage: DedicatedServer [map file] [IP] [port] [AI count] [screen width] [screen height]</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class DedicatedServer implements Runnable {
+
+	/**
+	 * Objects, Variables, Components, ...
+	 */
+	private final GameManager manager;        // Game manager obj (Server role)
+	private final long tickSpan;              // Length of a simulation tick (Nanoseconds)
+	private long tickCount;                   // Number of ticks simulated so far
+
+	/**
+	 * Object Constructor
+	 *
+	 * @param manager  GameManager object
+	 * @param tickRate Simulation ticks per second
+	 */
+	public DedicatedServer(GameManager manager, int tickRate) {
+		this.manager = manager;
+		this.tickSpan = 1_000_000_000L / tickRate;
+	}
+
+	/**
+	 * Ticks the match until the game is over
+	 * <p>Ticks are scheduled on a fixed clock. If the server falls more than MAX_CATCH_UP_TICKS behind, the backlog
+	 * is dropped instead of spiralling</p>
+	 */
+	@Override
+	public void run() {
+		long next = System.nanoTime();
+		while (!manager.gameOver) {
+			try {
+				int ticks = 0;
+				while (System.nanoTime() - next >= 0 && ticks < GameLoop.MAX_CATCH_UP_TICKS) {
+					manager.update(tickSpan / 1e9);
+					next += tickSpan;
+					ticks++;
+					tickCount++;
+				}
+				if (System.nanoTime() - next >= tickSpan)
+					next = System.nanoTime();       // Too far behind, drop the backlog
+
+				long delay = next - System.nanoTime();
+				if (delay > 0)
+					Thread.sleep(delay / 1_000_000, (int) (delay % 1_000_000));
+			} catch (InterruptedException ex) {
+				break;
+			} catch (Exception ex) {
+				ex.printStackTrace();
+			}
+		}
+		manager.close();
+	}
+
+	/**
+	 * Stops the server (The match loop ends after the current tick)
+	 */
+	public void stop() {
+		manager.close();
+	}
+
+	/**
+	 * Getter
+	 *
+	 * @return Number of ticks simulated so far
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Driver method
+	 *
+	 * @param args Args
+	 */
+	public static void main(String[] args) {
+		System.setProperty("java.awt.headless", "true");
+
+		String mapFilePath = args.length > 0 ? args[0] : "map.txt";
+		String IP = args.length > 1 ? args[1] : "239.1.2.3";
+		int port = args.length > 2 ? Integer.parseInt(args[2]) : 1234;
+		int AICount = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+		int screenWidth = args.length > 4 ? Integer.parseInt(args[4]) : 1920;
+		int screenHeight = args.length > 5 ? Integer.parseInt(args[5]) : 1080;
+
+		try {
+			GameManager manager = new GameManager(GameManager.Role.SERVER, AICount, mapFilePath, null,
+					new DatagramTransport(IP, port, 1), new Dimension(screenWidth, screenHeight));
+			DedicatedServer server = new DedicatedServer(manager, GameLoop.TICK_RATE);
+
+			Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+			System.out.println("Serving '" + mapFilePath + "' on " + IP + ":" + port + " at " + GameLoop.TICK_RATE + " ticks/s.");
+			server.run();
+		} catch (Exception ex) {
+			ex.printStackTrace();
+		}
+	}
+}
\ No newline at end of file
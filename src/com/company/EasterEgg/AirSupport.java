@@ -4,17 +4,16 @@ package com.company.EasterEgg;
  * Packages
  */
 
+import com.company.GameLoop;
 import com.company.Player;
 import com.company.TextureReference;
 
 /**
  * Imports
  */
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.util.Random;
 
 /**
@@ -28,14 +27,15 @@ public class AirSupport {
 
     private final Player player;                            // Player obj
     private int x, y, xStart, yStart, xEnd, yEnd;           // Required coordinates
+    private int previousX, previousY;                       // Coordinates on the previous tick
     private final int thrust = 15;                          // Thrust
     protected double rotation;                              // Rotation
-    private BufferedImage icon;                             // Icon
-    private BufferedImage target;                           // Target icon
+    private BufferedImage icon;                             // Icon (Loaded on first draw)
+    private BufferedImage target;                           // Target icon (Loaded on first draw)
     private boolean haveDropped = false;                    // Indicates whether bombs have been dropped or not
     private int bombCount = 5;                              // Number of bombs to drop
 
-    private final Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
+    private final Dimension screenSize;                     // Area the jet flies over
 
     /**
      * Object Constructor
@@ -43,6 +43,17 @@ public class AirSupport {
      * @param player Locked on player object
      */
     public AirSupport(Player player) {
+        this(player, Toolkit.getDefaultToolkit().getScreenSize());
+    }
+
+    /**
+     * Object Constructor
+     *
+     * @param player     Locked on player object
+     * @param screenSize Area the jet flies over (ie. the screen)
+     */
+    public AirSupport(Player player, Dimension screenSize) {
+        this.screenSize = screenSize;
         rotation = 0;
 
         double screenWidth = screenSize.getWidth() - 25, screenHeight = screenSize.getHeight() - 25, def = 0;
@@ -71,24 +82,11 @@ public class AirSupport {
         }
 
         this.player = player;
-        setxStart((int) (player.getTank().getX() - player.getTank().getIcon().getWidth() * player.getTank().getScale()) - 15);
-        setyStart((int) (player.getTank().getY() - player.getTank().getIcon().getHeight() * player.getTank().getScale()) - 15);
+        setxStart((int) (player.getTank().getX() - player.getTank().getWidth() * player.getTank().getScale()) - 15);
+        setyStart((int) (player.getTank().getY() - player.getTank().getHeight() * player.getTank().getScale()) - 15);
         setxEnd(xStart + 70);
         setyEnd(yStart + 70);
 
-        try {
-            this.icon = ImageIO.read(new File(TextureReference.getPath("plane")));
-        } catch (Exception ex) {
-            this.icon = null;
-            ex.printStackTrace();
-        }
-        try {
-            this.target = ImageIO.read(new File(TextureReference.getPath("target")));
-        } catch (Exception ex) {
-            this.target = null;
-            ex.printStackTrace();
-        }
-
         double yDif = Math.abs(player.getTank().getY() - y),
                 xDif = Math.abs(player.getTank().getX() - x),
                 theta = Math.atan(yDif / xDif);
@@ -98,19 +96,32 @@ public class AirSupport {
         else if (startPoint == 3) rotation += 3 * Math.PI / 2 - theta;
         else if (startPoint == 4) rotation += Math.PI / 2 + theta;
         rotation += Math.PI / 2;
+
+        this.previousX = this.x;
+        this.previousY = this.y;
     }
 
     /**
-     * Draws the player.getTank() & its tracks
+     * Renders the player.getTank() & its tracks
      * <p>Note that tracks must be drawn before the player.getTank() itself in order to seem like real life</p>
      *
-     * @param g2d Graphics2D
+     * @param g2d   Graphics2D
+     * @param alpha Interpolation factor between the previous and the current tick
      */
-    public void draw(Graphics2D g2d) {
+    public void render(Graphics2D g2d, double alpha) {
         AffineTransform at = new AffineTransform();
 
+        // Load icons on first draw
+        if (this.icon == null) {
+            this.icon = TextureReference.loadTexture("plane");
+            this.target = TextureReference.loadTexture("target");
+        }
+
+        // Interpolate between the previous and the current tick
+        double x = this.previousX + (this.x - this.previousX) * alpha, y = this.previousY + (this.y - this.previousY) * alpha;
+
         // Draw the player.getTank()
-        at.translate(this.x, this.y);                                                                     // Translate icon
+        at.translate(x, y);                                                                               // Translate icon
         at.rotate(-Math.PI / 2 + this.rotation);                                                    // Rotate icon
         // (Upward by default)
         double scale = 0.4d;
@@ -138,15 +149,19 @@ public class AirSupport {
 
     /**
      * Moves the jet
+     *
+     * @param dt Length of the tick (Seconds)
      */
-    public void move() {
+    public void update(double dt) {
 
-        // Calculate velocity
+        // Calculate velocity (Thrust is tuned per default tick)
         int dir = +1;
-        int xVel = (int) (Math.cos(this.rotation) * this.thrust * dir);
-        int yVel = (int) (Math.sin(this.rotation) * this.thrust * dir);
+        int xVel = (int) (Math.cos(this.rotation) * this.thrust * dir * dt * GameLoop.TICK_RATE);
+        int yVel = (int) (Math.sin(this.rotation) * this.thrust * dir * dt * GameLoop.TICK_RATE);
 
         // If we are set to move
+        this.previousX = this.x;
+        this.previousY = this.y;
         this.x += xVel;
         this.y += yVel;
     }
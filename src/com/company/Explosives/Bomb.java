@@ -3,6 +3,8 @@ package com.company.Explosives;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 
+import com.company.Network.IDAllocator;
+
 /**
  * Bomb class
  * <p>Inherits from the Explosive parent.</p>
@@ -28,23 +30,22 @@ public class Bomb extends Explosive {
      */
     public Bomb(int x, int y, double rotation, int thrust, int damage, double scale, int width, int height, Color color) {
         super(x, y, rotation, thrust, damage, scale, width, height, color);
-        this.explosiveID = "@bomb" + System.currentTimeMillis();
+        this.explosiveID = IDAllocator.next();
     }
 
     /**
-     * Draws the explosive object
+     * Renders the explosive object
      *
-     * @param g2d Graphics2D
+     * @param g2d   Graphics2D
+     * @param alpha Interpolation factor between the previous and the current tick
      */
-    public void draw(Graphics2D g2d) {
-
-        // Update bomb's coordinates
-        update();
+    @Override
+    public void render(Graphics2D g2d, double alpha) {
 
         AffineTransform at = new AffineTransform();
 
         // Draw the bomb
-        at.translate(this.x, this.y);                                                       // Translate icon
+        at.translate(getDrawX(alpha), getDrawY(alpha));                                     // Translate icon
         at.rotate(-Math.PI / 2 + this.rotation);                                      // Rotate icon (Upward by default)
         at.scale(this.scale, this.scale);                                                   // Scale icon
         at.translate(-(this.height) / (float) 2 + 7, -width / (float) 2);            // Translate (Again), for easier rotation around the center
@@ -3,19 +3,20 @@ package com.company.Explosives;
 /**
  * Packages
  */
+import com.company.GameLoop;
+import com.company.Network.IDAllocator;
 import com.company.Obstacles.Fence;
 import com.company.Obstacles.Obstacle;
+import com.company.Obstacles.ObstacleGrid;
 import com.company.Tank;
 import com.company.TextureReference;
 
 /**
  * Imports
  */
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.io.File;
 
 /**
  * BombingRun class
@@ -30,7 +31,9 @@ public class BombingRun extends Explosive {
      * Objects, Variables, Components, ...
      */
     private final int radius = 30;              // Radius
-    private BufferedImage icon;                 // Icon
+    private final int reach = radius + 64;      // Obstacles (Up to a tile long) touching the radius are hit
+    private BufferedImage icon;                 // Icon (Loaded on first draw)
+    private final Dimension iconSize;           // Unscaled icon size (From the texture metadata)
     private boolean hit = false;                // Hit status
 
     /**
@@ -43,30 +46,36 @@ public class BombingRun extends Explosive {
      */
     public BombingRun(int x, int y, int damage, double scale) {
         super(x, y, damage, scale);
+
+        Dimension iconSize;
         try {
-            this.icon = ImageIO.read(new File(TextureReference.getPath("nuke")));
+            iconSize = TextureReference.getTextureSize("nuke");
         } catch (Exception ex) {
-            this.icon = null;
+            iconSize = new Dimension(44, 44);
             ex.printStackTrace();
         }
+        this.iconSize = iconSize;
 
-        double width = icon.getWidth() * scale, height = icon.getHeight() * scale;
+        double width = iconSize.width * scale, height = iconSize.height * scale;
         setWidth((int) width);
         setHeight((int) height);
 
         // Set ID
-        this.explosiveID = "@bombrun" + System.currentTimeMillis();
+        this.explosiveID = IDAllocator.next();
     }
 
     /**
      * Updates the obj
+     *
+     * @param dt   Length of the tick (Seconds)
+     * @param grid Obstacle index of the game (Unused, bombing runs do not move)
      */
     @Override
-    public void update() {
-        if (!hit) scale -= 0.05d;
+    public void update(double dt, ObstacleGrid grid) {
+        if (!hit) scale -= 0.05d * dt * GameLoop.TICK_RATE;
         else scale = 0;
-        width = (int) (icon.getWidth() * scale);
-        height = (int) (icon.getHeight() * scale);
+        width = (int) (iconSize.width * scale);
+        height = (int) (iconSize.height * scale);
 
         if (scale <= 0.1) {
             this.hit = true;
@@ -91,6 +100,16 @@ public class BombingRun extends Explosive {
                 Math.abs(x - this.x) < radius && Math.abs(y - height - this.y) < radius;
     }
 
+    /**
+     * Returns the area in which the bombing run may hit an obstacle
+     *
+     * @return Collision bounds
+     */
+    @Override
+    public Rectangle getCollisionBounds() {
+        return new Rectangle(this.x - reach, this.y - reach, 2 * reach, 2 * reach);
+    }
+
     /**
      * Checks whether obj is inside
      *
@@ -117,22 +136,25 @@ public class BombingRun extends Explosive {
     @Override
     public void checkHit(Tank tank) {
         if (hasCollision(tank.getX() , tank.getY() ,
-                tank.getIcon().getWidth()*tank.getScale() ,
-                tank.getIcon().getHeight()*tank.getScale()) && hit && !tank.getShield() /*&& !tank.getGhost()*/){
+                tank.getWidth()*tank.getScale() ,
+                tank.getHeight()*tank.getScale()) && hit && !tank.getShield() /*&& !tank.getGhost()*/){
             tank.setHealth(tank.getHealth() - damage);
         }
         //if (hit) isDead = true;
     }
 
     /**
-     * Draws the bombing run
+     * Renders the bombing run
      *
-     * @param g2d Graphics2D
+     * @param g2d   Graphics2D
+     * @param alpha Interpolation factor between the previous and the current tick (Bombing runs do not move)
      */
-    public void draw(Graphics2D g2d) {
+    @Override
+    public void render(Graphics2D g2d, double alpha) {
 
-        // Update bomb's coordinates
-        update();
+        // Load icon on first draw
+        if (this.icon == null)
+            this.icon = TextureReference.loadTexture("nuke");
 
         AffineTransform at = new AffineTransform();
         at.translate(this.x, this.y);                                                                     // Translate icon
@@ -4,16 +4,15 @@ package com.company.Explosives;
  * Packages
  */
 
+import com.company.GameLoop;
 import com.company.TextureReference;
 
 /**
  * Imports
  */
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.util.Random;
 
 /**
@@ -28,7 +27,7 @@ public class Explosion {
     /**
      * Variables, Objects, Components, ...
      */
-    private BufferedImage icon;                     // Explosion icon
+    private BufferedImage icon;                     // Explosion icon (Loaded on first draw)
     private final int x, y;                         // Explosion's current X & Y Axis
     private double scale;                           // Explosion's  scale
     private double rotation;                        // Explosion's theta
@@ -62,23 +61,37 @@ public class Explosion {
         this.rotationDir = (random.nextInt(2) == 0) ? 1 : -1;   // Choose a random rotation direction
         this.explosionName = explosionName;
 
-        // Load explosion icon
-        try {
-            this.icon = ImageIO.read(new File(TextureReference.getPath(explosionName)));
-        } catch (Exception exception) {
-            exception.printStackTrace();
-        }
-
         // Initial opacity
         this.opacity = 1;
     }
 
     /**
-     * Draws all orders
+     * Reduces opacity, scales up & rotates to create an effect
+     *
+     * @param dt Length of the tick (Seconds)
+     */
+    public void update(double dt) {
+        double ticks = dt * GameLoop.TICK_RATE;     // Intervals are tuned per default tick
+
+        this.opacity -= fadeOutInterval * ticks;
+        this.rotation += rotationInterval * ticks;
+        this.scale += scaleInterval * ticks;
+    }
+
+    /**
+     * Renders the explosion
      *
-     * @param g2d Order1
+     * @param g2d Graphics2D
      */
-    public void draw(Graphics2D g2d) {
+    public void render(Graphics2D g2d) {
+
+        // Nothing left to show
+        if (isVanished())
+            return;
+
+        // Load explosion icon on first draw
+        if (this.icon == null)
+            this.icon = TextureReference.loadTexture(explosionName);
 
         AffineTransform at = new AffineTransform();
 
@@ -89,11 +102,6 @@ public class Explosion {
         at.translate(-this.icon.getWidth() / (float) 2, -this.icon.getHeight() / (float) 2);      // Translate (Again), for easier rotation around the center
         g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));                   // Set opacity (Fade-out motion)
         g2d.drawImage(this.icon, at, null);                                                          // Draw hall
-
-        // Reduce opacity, Scale up & rotate to create a effect
-        this.opacity -= fadeOutInterval;
-        this.rotation += rotationInterval;
-        this.scale += scaleInterval;
     }
 
     /**
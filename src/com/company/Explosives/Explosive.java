@@ -4,11 +4,16 @@ package com.company.Explosives;
  * Imports
  */
 
+import com.company.GameLoop;
+import com.company.Obstacles.Corner;
 import com.company.Obstacles.Fence;
 import com.company.Obstacles.Obstacle;
+import com.company.Obstacles.ObstacleGrid;
 import com.company.Tank;
 
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Explosive class
@@ -22,8 +27,9 @@ public class Explosive {
     /**
      * Variables, Objects, Components, ...
      */
-    protected String explosiveID;             // Identifier
+    protected long explosiveID;               // Identifier (See IDAllocator)
     protected int x, y;                       // Explosive's current X & Y Axis
+    protected int previousX, previousY;       // Explosive's X & Y Axis on the previous tick
     protected int width, height;              // Explosive's width & height
     protected double scale;                   // Explosive's  scale
     protected double rotation;                // Explosive's theta
@@ -31,15 +37,22 @@ public class Explosive {
     protected int damage;                     // Explosive's damage
     protected int xVel, yVel;                 // Explosive's X & Y velocity
     public boolean isTransferred;             // Indicates whether the obj is async with other players
+    private Tank shooter;                     // Tank that fired the explosive (Only known for lag compensated explosives)
+    private int rewindTicks;                  // Hit tests are made this many ticks in the past, where the shooter saw the tanks (Lag compensation)
 
     private boolean canExplode;               // Indicates whether explosive can cause damage to tank if collided. This is used when first the explosive is
     // Fired and is already collided with the tank. This way it doesn't explode until it completely moves out of tank's turret
 
     public boolean isDead;                    // Indicates death of the object
-    protected long startSecond;               // Start second
+    protected double age;                     // Simulated time since the explosive was fired (Seconds)
+    protected final double lifeSpan = 4;      // Explosive's life span (Seconds)
 
     protected Color color;                    // Explosive's color
 
+    private final static int maxBounces = 8;  // Maximum number of reflections resolved in a single tick
+    private final List<Obstacle> nearbyObstacles = new ArrayList<>();  // Reused obstacle query result
+    private boolean entryX;                   // Indicates whether the last entry (See getEntryTime) was through the X-Axis
+
     /**
      * Object Constructor
      *
@@ -65,9 +78,7 @@ public class Explosive {
         this.color = color;
         this.canExplode = false;
         this.isTransferred = false;
-
-        // Set start time in seconds
-        this.startSecond = System.currentTimeMillis() / 1000;
+        savePreviousState();
 
         // Initial velocity
         this.xVel = (int) (Math.cos(this.rotation) * this.thrust);
@@ -87,6 +98,7 @@ public class Explosive {
         this.y = y;
         this.scale = scale;
         this.damage = damage;
+        savePreviousState();
     }
 
     /**
@@ -94,23 +106,200 @@ public class Explosive {
      *
      * @return Explosive ID
      */
-    public String getExplosiveID() {
+    public long getExplosiveID() {
         return explosiveID;
     }
 
+    /**
+     * Setter
+     *
+     * @param explosiveID Explosive ID (ie. the sender's ID of a received explosive)
+     */
+    public void setExplosiveID(long explosiveID) {
+        this.explosiveID = explosiveID;
+    }
+
     /**
      * Updates the explosive's location (Scalar)
+     * <p>The explosive is swept along its path, so it can not tunnel through the thin walls at any speed</p>
+     *
+     * @param dt   Length of the tick (Seconds)
+     * @param grid Obstacle index of the game the explosive is in (Null to move without collisions)
      */
-    public void update() {
-        // Scalar translation
-        this.x += this.xVel;
-        this.y += this.yVel;
+    public void update(double dt, ObstacleGrid grid) {
+        double ticks = dt * GameLoop.TICK_RATE;     // Velocities are tuned per default tick
+
+        // Swept translation
+        move(this.xVel * ticks, this.yVel * ticks, grid);
 
         // Check if object should die or not (Object dies after 4 seconds)
-        if (System.currentTimeMillis() / 1000 - startSecond >= 4)
+        this.age += dt;
+        if (this.age >= this.lifeSpan)
             isDead = true;
     }
 
+    /**
+     * Moves the explosive along the given path, stopping at the first obstacle on the way
+     * <p>The explosive's box (See hasCollision) is swept against the nearby obstacles. On each hit the remaining path
+     * is reflected (Or the explosive dies), and the sweep goes on until the path is used up</p>
+     *
+     * @param dx   X-Axis displacement
+     * @param dy   Y-Axis displacement
+     * @param grid Obstacle index (Null to move without collisions)
+     */
+    protected void move(double dx, double dy, ObstacleGrid grid) {
+        double x = this.x, y = this.y;
+
+        for (int bounce = 0; bounce <= maxBounces && !isDead && (dx != 0 || dy != 0); bounce++) {
+            Obstacle hit = null;
+            double hitTime = 1;
+            boolean hitX = false;
+
+            if (grid != null) {
+                int left = (int) Math.floor(Math.min(x, x + dx)) - this.width, top = (int) Math.floor(Math.min(y, y + dy)) - this.height;
+                int right = (int) Math.ceil(Math.max(x, x + dx)) + this.width, bottom = (int) Math.ceil(Math.max(y, y + dy)) + this.height;
+
+                for (Obstacle obstacle : grid.query(left, top, right - left, bottom - top, nearbyObstacles)) {
+                    if (obstacle.isDestroyed())
+                        continue;
+
+                    // Entry time of the path into the obstacle, grown by the explosive's size
+                    double entry = getEntryTime(x, y, dx, dy, obstacle.getX() - this.width, obstacle.getY() - this.height,
+                            obstacle.getX() + obstacle.getWidth() + this.width, obstacle.getY() + obstacle.getHeight() + this.height);
+
+                    if (entry < hitTime) {
+                        hit = obstacle;
+                        hitTime = entry;
+                        hitX = entryX;
+                    }
+                }
+            }
+
+            // Move up to the obstacle (Or the whole path)
+            x += dx * hitTime;
+            y += dy * hitTime;
+            if (hit == null)
+                break;
+
+            dx *= 1 - hitTime;
+            dy *= 1 - hitTime;
+
+            if (hit instanceof Fence) {
+                // Fences are destructible
+                if (thrust >= 7)
+                    hit.setHealth(0);    // Destroy obstacle instantly
+                else
+                    hit.setHealth(hit.getHealth() - this.damage);     // Damage the obstacle (ie. fence)
+
+                this.isDead = true;
+            } else if (this instanceof Missile || hit instanceof Corner)
+                this.isDead = true;     // Kill missiles on collision to any game object. Kill anything that hits the corners
+            else if (hitX) {
+                this.xVel *= -1;        // Reflect the velocity & the rest of the path
+                dx *= -1;
+            } else {
+                this.yVel *= -1;
+                dy *= -1;
+            }
+        }
+
+        this.x = (int) Math.round(x);
+        this.y = (int) Math.round(y);
+    }
+
+    /**
+     * Calculates when a moving point enters a box (Slab method)
+     * <p>A point that is already inside the box (ie. fired into a wall) hits the nearest side at once if it moves
+     * inwards through it, and is let out otherwise; so an explosive never gets stuck. The entered axis is left in
+     * entryX, so nothing is allocated per obstacle</p>
+     *
+     * @param x      Start X-Axis
+     * @param y      Start Y-Axis
+     * @param dx     X-Axis displacement
+     * @param dy     Y-Axis displacement
+     * @param left   Box's left side
+     * @param top    Box's top side
+     * @param right  Box's right side
+     * @param bottom Box's bottom side
+     * @return Entry time (0 to 1, infinite if the point does not enter the box)
+     */
+    private double getEntryTime(double x, double y, double dx, double dy, double left, double top, double right, double bottom) {
+        double xEntry, xExit, yEntry, yExit;
+
+        if (dx == 0) {
+            if (x <= left || x >= right)
+                return Double.POSITIVE_INFINITY;
+            xEntry = Double.NEGATIVE_INFINITY;
+            xExit = Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (left - x) / dx, t2 = (right - x) / dx;
+            xEntry = Math.min(t1, t2);
+            xExit = Math.max(t1, t2);
+        }
+
+        if (dy == 0) {
+            if (y <= top || y >= bottom)
+                return Double.POSITIVE_INFINITY;
+            yEntry = Double.NEGATIVE_INFINITY;
+            yExit = Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (top - y) / dy, t2 = (bottom - y) / dy;
+            yEntry = Math.min(t1, t2);
+            yExit = Math.max(t1, t2);
+        }
+
+        double entry = Math.max(xEntry, yEntry), exit = Math.min(xExit, yExit);
+        if (entry < 0 && exit > 0) {
+            // Already inside, find the nearest side
+            double xDepth = Math.min(x - left, right - x), yDepth = Math.min(y - top, bottom - y);
+            boolean inwards = xDepth < yDepth ? (x - left < right - x ? dx > 0 : dx < 0) : (y - top < bottom - y ? dy > 0 : dy < 0);
+            entryX = xDepth < yDepth;
+            return inwards ? 0 : Double.POSITIVE_INFINITY;
+        }
+        if (entry >= exit || entry < 0 || entry > 1)
+            return Double.POSITIVE_INFINITY;
+
+        entryX = xEntry > yEntry;
+        return entry;
+    }
+
+    /**
+     * Renders the explosive (Each type of explosive draws itself)
+     *
+     * @param g2d   Graphics2D
+     * @param alpha Interpolation factor between the previous and the current tick
+     */
+    public void render(Graphics2D g2d, double alpha) {
+    }
+
+    /**
+     * Stores the current location as the previous tick's location (Called at the start of each tick)
+     */
+    public void savePreviousState() {
+        this.previousX = this.x;
+        this.previousY = this.y;
+    }
+
+    /**
+     * Interpolates the X-Axis between the previous and the current tick
+     *
+     * @param alpha Interpolation factor
+     * @return X-Axis to draw at
+     */
+    protected int getDrawX(double alpha) {
+        return (int) Math.round(this.previousX + (this.x - this.previousX) * alpha);
+    }
+
+    /**
+     * Interpolates the Y-Axis between the previous and the current tick
+     *
+     * @param alpha Interpolation factor
+     * @return Y-Axis to draw at
+     */
+    protected int getDrawY(double alpha) {
+        return (int) Math.round(this.previousY + (this.y - this.previousY) * alpha);
+    }
+
     /**
      * Indicates whether we have a collision or not
      *
@@ -166,6 +355,15 @@ public class Explosive {
         return (this.x + this.width >= x && this.x - this.width <= x + width && this.y + this.height >= y && this.y - this.height <= y + height);
     }
 
+    /**
+     * Returns the area in which the explosive may collide with an obstacle (See hasCollision)
+     *
+     * @return Collision bounds
+     */
+    public Rectangle getCollisionBounds() {
+        return new Rectangle(this.x - this.width, this.y - this.height, 2 * this.width, 2 * this.height);
+    }
+
     /**
      * Calculates the minimum value in the given array
      *
@@ -189,10 +387,20 @@ public class Explosive {
      * @param tank Tank obj
      */
     public void checkHit(Tank tank) {
+        checkHit(tank, tank.getX(), tank.getY());
+    }
+
+    /**
+     * Checks whether tank is hit, as if it was at the given location (ie. where the shooter saw it, see rewindTicks)
+     *
+     * @param tank Tank obj
+     * @param x    Tank's X-Axis
+     * @param y    Tank's Y-Axis
+     */
+    public void checkHit(Tank tank, int x, int y) {
 
         // Get tank's properties
-        int x = tank.getX(), y = tank.getY();
-        int width = (int) (tank.getIcon().getWidth() * tank.getScale()), height = (int) (tank.getIcon().getHeight() * tank.getScale());
+        int width = (int) (tank.getWidth() * tank.getScale()), height = (int) (tank.getHeight() * tank.getScale());
 
         // If the explosive is activated & tank does not have any kind of shield
         if (canExplode && (this.x + this.width > x && this.x < x + width / 2 && this.y + this.height > y && this.y < y + height / 2)) {
@@ -203,6 +411,44 @@ public class Explosive {
             canExplode = true;
     }
 
+    /**
+     * Setter
+     *
+     * @param shooter     Tank that fired the explosive
+     * @param rewindTicks Ticks the hit tests are rewound by
+     */
+    public void setLagCompensation(Tank shooter, int rewindTicks) {
+        this.shooter = shooter;
+        this.rewindTicks = rewindTicks;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Tank that fired the explosive (Null if unknown)
+     */
+    public Tank getShooter() {
+        return shooter;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Ticks the hit tests are rewound by (0 for the current tick)
+     */
+    public int getRewindTicks() {
+        return rewindTicks;
+    }
+
+    /**
+     * Setter
+     *
+     * @param canExplode Activation indicator
+     */
+    public void setCanExplode(boolean canExplode) {
+        this.canExplode = canExplode;
+    }
+
     /**
      * Returns true if the object has reached maximum number of reflections or has reached its lifespan
      *
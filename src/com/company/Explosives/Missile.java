@@ -3,16 +3,17 @@ package com.company.Explosives;
 /**
  * Packages
  */
+import com.company.GameLoop;
+import com.company.Network.IDAllocator;
+import com.company.Obstacles.ObstacleGrid;
 import com.company.TextureReference;
 
 /**
  * Imports
  */
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -30,8 +31,9 @@ public class Missile extends Explosive {
     /**
      * Variables, Objects, Components, ...
      */
-    private BufferedImage icon = null;              // Missile's icon
-    private BufferedImage backfireIcon = null;      // Missile's backfire icon
+    private BufferedImage icon = null;              // Missile's icon (Loaded on first draw)
+    private final String iconName;                  // Missile's icon texture name
+    private BufferedImage backfireIcon = null;      // Missile's backfire icon (Loaded on first draw)
     private final List<Smoke> smokes;               // Missile's List of smokes
     private final Random random = new Random();     // Random obj
 
@@ -51,7 +53,7 @@ public class Missile extends Explosive {
      */
     public Missile(int x, int y, double rotation, int thrust, int damage, double scale, int width, int height, Color color) {
         super(x, y, rotation, thrust, damage, scale, width, height, color);
-        this.explosiveID = "@missile" + System.currentTimeMillis();
+        this.explosiveID = IDAllocator.next();
 
         // Load missile according to tank's color
         String colorName;
@@ -68,19 +70,8 @@ public class Missile extends Explosive {
 
         this.smokes = new ArrayList<>();
 
-        // Load missile texture
-        try {
-            this.icon = ImageIO.read(new File(TextureReference.getPath("missile_" + colorName)));
-        } catch (Exception ex) {
-            ex.printStackTrace();
-        }
-
-        // Load missile's backfire texture
-        try {
-            this.backfireIcon = ImageIO.read(new File(TextureReference.getPath("Backfire_medium")));
-        } catch (Exception ex) {
-            ex.printStackTrace();
-        }
+        // Missile & backfire textures are loaded on first draw
+        this.iconName = "missile_" + colorName;
 
         // Initial velocity
         this.xVel = (int) (Math.cos(this.rotation) * this.thrust);
@@ -88,35 +79,55 @@ public class Missile extends Explosive {
     }
 
     /**
-     * Draws the explosive object
+     * Updates the missile's location and its smoke trace
      *
-     * @param g2d Graphics2D
+     * @param dt   Length of the tick (Seconds)
+     * @param grid Obstacle index of the game the missile is in
      */
-    public void draw(Graphics2D g2d) {
-
-        // Update object's coordinates
-        update();
-
-        AffineTransform at = new AffineTransform();
-
-        // Draw backfire
-        Backfire.draw(g2d, this.x, this.y, this.rotation, this.scale, this.backfireIcon);
+    @Override
+    public void update(double dt, ObstacleGrid grid) {
+        super.update(dt, grid);
 
-        // Draw smoke
-        smokes.add(new Smoke(this.x, this.y, random.nextInt(10) - 5));      // Add new smoke
+        // Age the smoke trace & add new smoke
         Iterator<Smoke> iterator = smokes.iterator();
         while (iterator.hasNext()) {
             Smoke smoke = iterator.next();
+            smoke.update(dt);
 
             if (smoke.isVanished())
                 iterator.remove();
-            else
-                smoke.draw(g2d);
         }
+        smokes.add(new Smoke(this.x, this.y, random.nextInt(10) - 5));      // Add new smoke
+    }
+
+    /**
+     * Renders the explosive object
+     *
+     * @param g2d   Graphics2D
+     * @param alpha Interpolation factor between the previous and the current tick
+     */
+    @Override
+    public void render(Graphics2D g2d, double alpha) {
+
+        AffineTransform at;
+        int x = getDrawX(alpha), y = getDrawY(alpha);                       // Interpolated location
+
+        // Load textures on first draw
+        if (this.icon == null) {
+            this.icon = TextureReference.loadTexture(iconName);
+            this.backfireIcon = TextureReference.loadTexture("Backfire_medium");
+        }
+
+        // Draw backfire
+        Backfire.draw(g2d, x, y, this.rotation, this.scale, this.backfireIcon);
+
+        // Draw smoke
+        for (Smoke smoke : smokes)
+            smoke.render(g2d);
 
         // Draw missile
         at = new AffineTransform();
-        at.translate(this.x, this.y);                                                       // Translate icon
+        at.translate(x, y);                                                                 // Translate icon
         at.rotate(+Math.PI / 2 + this.rotation);                                      // Rotate icon (Upward by default)
         at.scale(this.scale, this.scale);                                                   // Scale icon
         at.translate(-(this.height) / (float) 2 - 5, -width / (float) 2);           // Translate (Again), for easier rotation around the center
@@ -186,15 +197,23 @@ class Smoke {
     }
 
     /**
-     * Draws the object
+     * Fades the smoke out
+     *
+     * @param dt Length of the tick (Seconds)
+     */
+    public void update(double dt) {
+        opacity -= 0.05 * dt * GameLoop.TICK_RATE;
+    }
+
+    /**
+     * Renders the object
      *
      * @param g2d Graphics 2D
      */
-    public void draw(Graphics2D g2d) {
+    public void render(Graphics2D g2d) {
         g2d.setColor(color);                                                                              // Set color
         g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, opacity));                   // Set opacity (Fade-out motion)
         g2d.drawOval(x, y, radius, radius);                                                               // Draw ellipse
-        opacity -= 0.05;
     }
 
     /**
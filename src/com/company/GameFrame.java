@@ -58,19 +58,30 @@ public class GameFrame extends JFrame {
 		bufferStrategy = getBufferStrategy();
 	}
 
+	/**
+	 * Returns the refresh rate of the display the frame is shown on
+	 *
+	 * @return Refresh rate (Hz), 60 if unknown
+	 */
+	public int getRefreshRate() {
+		int refreshRate = getGraphicsConfiguration().getDevice().getDisplayMode().getRefreshRate();
+		return refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN ? 60 : refreshRate;
+	}
+
 	/**
 	 * Game rendering with triple-buffering using BufferStrategy.
 	 *
 	 * @param state GameState object
+	 * @param alpha Interpolation factor between the previous and the current simulation tick (0 to 1)
 	 */
-	public void render(GameManager state) throws IOException {
+	public void render(GameManager state, double alpha) throws IOException {
 		// Render single frame
 		do {
 			do {
 				// Get new Graphics2D to make sure the strategy is validated
 				Graphics2D graphics = (Graphics2D) bufferStrategy.getDrawGraphics();
 				try {
-					doRendering(graphics, state);
+					doRendering(graphics, state, alpha);
 				} finally {
 					graphics.dispose();    // Dispose the graphics
 				}
@@ -91,15 +102,17 @@ public class GameFrame extends JFrame {
 	 *
 	 * @param g2d     Graphics2D context
 	 * @param manager GameState object
+	 * @param alpha   Interpolation factor between the previous and the current simulation tick
 	 */
-	private void doRendering(Graphics2D g2d, GameManager manager) {
+	private void doRendering(Graphics2D g2d, GameManager manager, double alpha) {
 
 		// Draw background
 		g2d.setColor(Color.WHITE);
 		g2d.fillRect(0, 0, getScreenWidth(), getScreenHeight());
 
-		// Draw background
-		g2d.drawImage(manager.getBackground(), (this.getWidth() - GAME_WIDTH) / 2, (this.getHeight() - GAME_HEIGHT) / 2, GAME_WIDTH, GAME_HEIGHT, null);
+		// Draw background (Where the map has been laid out, ie. as the dedicated server has)
+		Point origin = manager.getMapOrigin();
+		g2d.drawImage(manager.getBackground(), origin.x, origin.y, GAME_WIDTH, GAME_HEIGHT, null);
 
 		// Draw game title (Back ground)
 		g2d.setColor(Color.BLACK);
@@ -107,14 +120,14 @@ public class GameFrame extends JFrame {
 		g2d.drawString(this.getTitle(), (getScreenWidth() - getStringWidth(g2d)) / 2, 40);
 
 		// Draw separator
-		drawSeparator(g2d, (this.getWidth() - GAME_WIDTH) / 2, (this.getHeight() - GAME_HEIGHT) / 2 - 30, GAME_WIDTH);
+		drawSeparator(g2d, origin.x, origin.y - 30, GAME_WIDTH);
 
 		// Draw obstacles (Mid ground)
 		for (Obstacle obstacle : manager.getObstacles()) {
 			if (obstacle != null) {
 
 				if (obstacle instanceof Fence)
-					((Fence) obstacle).draw(g2d);
+					((Fence) obstacle).render(g2d);
 				else {
 					g2d.setColor(obstacle.getColor());
 					g2d.fillRect(obstacle.getX(), obstacle.getY(), obstacle.getWidth(), obstacle.getHeight());
@@ -126,12 +139,12 @@ public class GameFrame extends JFrame {
 		for (CarePackage carePackage : manager.getCarePackages()) {
 			//if (!carePackage.isUsed())
 			if (carePackage.getOpacity() > 0)
-				carePackage.draw(g2d);
+				carePackage.render(g2d);
 		}
 
 		// Draw player (Tank & tracks) (Fore ground)
 		for (Player player : manager.getPlayers()) {
-			player.draw(g2d);
+			player.render(g2d, alpha);
 
 			// Draw AI's debug
 //			if (player.getTank() instanceof TankAI)
@@ -139,24 +152,21 @@ public class GameFrame extends JFrame {
 		}
 
 		// Draw explosives (Bomb & missile) (Fore ground)
-		for (Explosive explosive : manager.getExplosives()) {
-			if (explosive instanceof Bomb) ((Bomb) explosive).draw(g2d);    // Draw Explosive (bomb)
-			else if (explosive instanceof Missile) ((Missile) explosive).draw(g2d);    // Draw Explosive (Missile)
-			else if (explosive instanceof BombingRun) ((BombingRun) explosive).draw(g2d);	// Draw Explosive (Bombing Run)
-		}
+		for (Explosive explosive : manager.getExplosives())
+			explosive.render(g2d, alpha);    // Draw Explosive (Bomb, Missile & Bombing Run)
 
 		// Draw explosions (Fore ground)
 		for (Explosion explosion : manager.getExplosions()) {
-			explosion.draw(g2d);
+			explosion.render(g2d);
 		}
 
 		// Draw air-support
 		for (AirSupport airSupport : manager.getAirSupports()){
-			airSupport.draw(g2d);
+			airSupport.render(g2d, alpha);
 		}
 
 		// Draw games status - Bottom panel
-		manager.drawGameStates(g2d, (this.getWidth() - GAME_WIDTH) / 2, (this.getHeight() - GAME_HEIGHT) / 2, GAME_WIDTH, GAME_HEIGHT);
+		manager.drawGameStates(g2d, origin.x, origin.y, GAME_WIDTH, GAME_HEIGHT);
 	}
 
 	/**
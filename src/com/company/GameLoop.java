@@ -7,19 +7,23 @@ import java.io.IOException;
 
 /**
  * GameLoop class
- * <p>This class calls all the rendering methods</p>
+ * <p>This class runs the simulation at a fixed tick rate and renders the game at display rate in between. Frames are
+ * interpolated between the last two simulation states, so the display rate does not change the game speed</p>
  *
  * @author Keivan Ipchi Hagh & Bardia Ardakanian
- * @version 0.1.0
+ * @version 0.2.0
  */
 public class GameLoop implements Runnable {
 
 	/**
 	 * Objects, Variables, Components, ...
 	 */
-	public static final int FPS = 30;                // Must be over 24
+	public static final int TICK_RATE = 30;          // Default simulation tick rate (The game is tuned per tick). Must be over 24
+	public static final int MAX_CATCH_UP_TICKS = 5;  // Maximum number of ticks simulated before a frame is rendered
 	private final GameFrame canvas;                    // Game frame obj
 	private final GameManager manager;                // Game manager obj
+	private final long tickSpan;                    // Length of a simulation tick (Nanoseconds)
+	private final long frameSpan;                    // Minimum length of a rendered frame (Nanoseconds)
 
 	/**
 	 * Object Constructor
@@ -27,8 +31,22 @@ public class GameLoop implements Runnable {
 	 * @param frame GameFrame object
 	 */
 	public GameLoop(GameFrame frame, GameManager manager) {
+		this(frame, manager, TICK_RATE, frame.getRefreshRate());
+	}
+
+	/**
+	 * Object Constructor
+	 *
+	 * @param frame     GameFrame object
+	 * @param manager   GameManager object
+	 * @param tickRate  Simulation ticks per second
+	 * @param frameRate Maximum rendered frames per second
+	 */
+	public GameLoop(GameFrame frame, GameManager manager, int tickRate, int frameRate) {
 		this.canvas = frame;
 		this.manager = manager;
+		this.tickSpan = 1_000_000_000L / tickRate;
+		this.frameSpan = 1_000_000_000L / frameRate;
 	}
 
 	/**
@@ -40,30 +58,45 @@ public class GameLoop implements Runnable {
 
 	/**
 	 * Overrides the run method in the thread
+	 * <p>Elapsed time is accumulated and consumed in fixed ticks. If the simulation falls more than
+	 * MAX_CATCH_UP_TICKS behind (ie. after a long render hiccup), the backlog is dropped instead of spiralling</p>
 	 */
 	@Override
 	public void run() {
 		boolean gameOver = false;
+		long previous = System.nanoTime(), accumulator = tickSpan;
 		while (!gameOver) {
 			try {
-				long start = System.currentTimeMillis();
+				long start = System.nanoTime();
+				accumulator += start - previous;
+				previous = start;
+
+				// Update (Fixed ticks)
+				int ticks = 0;
+				while (accumulator >= tickSpan && ticks < MAX_CATCH_UP_TICKS) {
+					manager.update(tickSpan / 1e9);
+					accumulator -= tickSpan;
+					ticks++;
+				}
+				if (accumulator >= tickSpan)
+					accumulator %= tickSpan;    // Too far behind, drop the backlog
 
-				// Update & render
-				manager.update();
-				canvas.render(manager);
+				// Render (Interpolated between the last two ticks)
+				canvas.render(manager, accumulator / (double) tickSpan);
 				gameOver = manager.gameOver;
 
-				long delay = (1000 / FPS) - (System.currentTimeMillis() - start);
+				long delay = frameSpan - (System.nanoTime() - start);
 				if (delay > 0)
-					Thread.sleep(delay);
+					Thread.sleep(delay / 1_000_000, (int) (delay % 1_000_000));
 			} catch (InterruptedException | IOException ex) {
 				ex.printStackTrace();
 			}
 		}
 		try {
-			canvas.render(manager);
+			canvas.render(manager, 1);
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
+		manager.close();
 	}
 }
\ No newline at end of file
@@ -9,13 +9,10 @@ import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.image.BufferedImage;
 import java.io.*;
-import java.net.DatagramPacket;
-import java.net.InetAddress;
-import java.net.MulticastSocket;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.List;
-import javax.imageio.ImageIO;
-
 /**
  * Packages
  */
@@ -24,6 +21,11 @@ import com.company.EasterEgg.AirSupport;
 import com.company.MapGenerator.BackgroundRenderer;
 import com.company.Obstacles.*;
 import com.company.Explosives.*;
+import com.company.Network.*;
+import com.company.PathFinding.PathCache;
+import com.company.PathFinding.PathfindingService;
+import com.company.Physics.HitboxHistory;
+import com.company.Physics.SpatialHash;
 import static com.company.Obstacles.ObstacleGenerator.generateObstacles;
 
 /**
@@ -35,12 +37,32 @@ import static com.company.Obstacles.ObstacleGenerator.generateObstacles;
  */
 public class GameManager {
 
+	/**
+	 * Network roles
+	 */
+	public enum Role {
+		PEER,       // Every peer simulates the whole match & sends its own player (No server)
+		SERVER,     // Dedicated server, owns the match & broadcasts the state of everyone (Headless)
+		CLIENT      // Thin client, sends its input & renders the state the server broadcasts
+	}
+
 	/**
 	 * Objects, Variables, Components, ...
 	 */
-	public boolean gameOver;                                                // Game over indicator
+	public volatile boolean gameOver;                                         // Game over indicator
 	private final List<Player> players;                                     // List of players
 	private final List<Obstacle> obstacles;                                 // List of obstacles
+	private ObstacleGrid obstacleGrid;                                      // Spatial index of the obstacles (Broadphase, replaced along with the map)
+	private Point mapOrigin;                                                // Top-left corner of the map (Replaced along with the map)
+	private final List<Obstacle> nearbyObstacles = new ArrayList<>();       // Reused obstacle query result
+	private final int[][] pathMap;                                          // Map the paths are planned on (Fences are walls until destroyed)
+	private PathfindingService pathfinding;                                 // Plans the paths on worker threads (Created on first use, see getPathCache)
+	private PathCache pathCache;                                            // Recently planned paths
+	private final int pathCacheCapacity = 1024;                             // Paths kept by the path cache
+	private final SpatialHash<Player> tankHash;                             // Spatial index of the alive tanks (Rebuilt every tick)
+	private final SpatialHash<CarePackage> carePackageHash;                 // Spatial index of the unused care packages (Rebuilt every tick)
+	private final List<Player> nearbyPlayers = new ArrayList<>();           // Reused tank query result
+	private final List<CarePackage> nearbyCarePackages = new ArrayList<>(); // Reused care package query result
 	private final List<Explosive> explosives;                               // List of active explosives (ie. bombs, missiles, rayguns, ...)
 	private final List<Explosion> explosions;                               // List of active explosions
 	private final List<String> availableTanks;                              // List of un-used tanks
@@ -50,17 +72,53 @@ public class GameManager {
 	private final BufferedImage background;                                 // Game's pre-rendered background image
 	private final CarePackageGenerator carePackageGenerator;                // The care package generator obj
 	private final int spawnDistance = 64 * 3;                               // Tanks will spawn from each other with the given distance
+	private final int spawnAttempts = 100;                                  // Spawn tiles tried before the spawn distance is ignored
+	private final int aiFireChance = 15;                                    // AI players fire with a chance of 1 in the given number per default tick
 	private final Random random;                                            // Random obj
+	private final boolean headless;                                         // Headless indicator (No display & no textures)
+	private final Role role;                                                // Network role
+	private final String mapFilePath;                                       // Map file path (Clients lay it out again as the server's layout arrives)
+	private boolean hasMap;                                                 // Indicates whether the map is laid out as the server's (Clients wait for it, see handleMap)
+	private final Dimension arenaSize;                                      // Area the air supports fly over (ie. the screen)
 
 	// Input stuff
 	private boolean keyUP, keyDOWN, keyRIGHT, keyLEFT, keySPACE, keyCTRL;   // Accepted key bindings
 	private final KeyHandler keyHandler;                                    // Key handler
 
-	// Socket stuff
-	private final int port;                                                 // Socket port
-	private final String IP;                                                // Socket IP
-	InetAddress group;                                                      // Socket group address
-	private final MulticastSocket socket;                                   // Socket obj
+	// Network stuff
+	private final OutboundBatcher transport;                                // Transport obj, sending the messages of a tick in batches (Null in headless mode)
+	private final EventChannel events;                                      // Reliable channel of the explosives & care packages (Null in headless mode)
+	private final ByteBuffer sendBuffer;                                    // Reused outgoing message buffer
+	private final ByteBuffer keyframeBuffer;                                // Reused outgoing keyframe buffer (Server only, see sendStates)
+	private final InboundQueue inbox = new InboundQueue(256);               // Decoded messages waiting for the next tick (Filled by the reader thread)
+	private final InboundQueue.Handler inboxHandler = this::handleMessage;  // Applies the drained messages
+	private final PlayerState sentPlayer = new PlayerState();               // Reused outgoing player state
+	private final Map<Player, PlayerState> sentKeyframes = new HashMap<>(); // Last sent keyframe of each player (The baseline of the deltas)
+	private final IDIndex<int[]> keyframeRequests = new IDIndex<>(16);      // Last requested keyframe of each player (By ID): sequence & tick
+	private final InputState localInput = new InputState();                 // Input of self, read from the keyboard every tick
+	private final InputBuffer predictedInputs = new InputBuffer(64);        // Inputs of self the server hasn't acknowledged yet (Client only)
+	private final Map<Player, InputState> inputs = new HashMap<>();         // Input each client is driven by (Server only)
+	private final Map<Player, InputBuffer> pendingInputs = new HashMap<>(); // Received inputs of each client, waiting for their tick (Server only)
+	private int ticksSinceKeyframe = Protocol.KEYFRAME_INTERVAL;            // Ticks since the last player keyframe
+	private int tickCount;                                                  // Ticks simulated so far (Stamped on the sent states)
+	private double tickLength = 1.0 / GameLoop.TICK_RATE;                   // Length of a tick (Seconds, set by update)
+	private final Map<Player, SnapshotBuffer> snapshots = new HashMap<>();  // Received transforms of each remote player (Played back in the past)
+	private double interpolationDelay = 0.1;                                // Playback delay of the remote players (Seconds)
+	private final double maxExtrapolation = 0.25;                           // Longest extrapolation of a remote player that has gone quiet (Seconds)
+	private int viewTick;                                                   // Server tick the remote players are played back at (Client only, sent with the inputs)
+	private final Map<Player, HitboxHistory> hitboxes = new HashMap<>();    // Recent locations of each tank (Server only, see lag compensation)
+	private final int maxRewindTicks = 8;                                   // Longest lag compensation (Ticks, the rest of the latency is the shooter's to lead)
+	private final List<Player> clients = new ArrayList<>();                 // Players driven by a client (Server only)
+	private final Map<Player, SocketAddress> clientAddresses = new HashMap<>(); // Where each client is (Server only, its states are sent there)
+	private final Map<Player, int[]> deliveredKeyframes = new HashMap<>();  // Keyframe sequence of each player (By index) sent to each client
+	private boolean unicastStates = true;                                   // Indicates whether every client can be reached on its own (Otherwise the states go to the group)
+	private int interestRegionSize = 256;                                   // Side of the interest regions (Pixels, see sendStates)
+	private final ExplosiveState sentExplosive = new ExplosiveState();      // Reused outgoing explosive state
+	private final CarePackageState sentCarePackage = new CarePackageState();// Reused outgoing care package state
+	private final MapState sentMap = new MapState();                        // Map layout sent to the clients (Server only, destroyed fences are dropped)
+	private final IDIndex<Player> playerIndex = new IDIndex<>(16);          // Players by ID (See IDAllocator)
+	private final IDIndex<Explosive> explosiveIndex = new IDIndex<>(64);    // Live explosives by ID (Received duplicates are looked up here)
+	private final IDIndex<CarePackage> carePackageIndex = new IDIndex<>(16);// Live care packages by ID
 
 	/**
 	 * Object Constructor
@@ -74,7 +132,57 @@ public class GameManager {
 	 * @throws IOException handled Err
 	 */
 	public GameManager(int playersCount, int AICount, String mapFilePath, String mapType, String IP, int port) throws IOException {
+		this(Role.PEER, AICount, mapFilePath, mapType, new DatagramTransport(IP, port, 0), null, false);
+	}
+
+	/**
+	 * Object Constructor
+	 * <p>Plays over the given transport (ie. a LoopbackTransport, to run several games in one process). The server is
+	 * headless and spawns the AI players, everyone else is spawned as their input arrives</p>
+	 *
+	 * @param role        Network role
+	 * @param AICount     AI players count (Only spawned by the server)
+	 * @param mapFilePath map of the game path
+	 * @param mapType     Map type
+	 * @param transport   Transport obj
+	 * @param screenSize  Screen the map is centered on (Null for this screen. The server must use the screen of its clients)
+	 * @throws IOException handled Err
+	 */
+	public GameManager(Role role, int AICount, String mapFilePath, String mapType, Transport transport, Dimension screenSize) throws IOException {
+		this(role, AICount, mapFilePath, mapType, transport, screenSize, role == Role.SERVER);
+	}
+
+	/**
+	 * Object Constructor (Headless)
+	 * <p>Creates a match with AI players only. No display, texture or network is touched, so the match can be simulated
+	 * by calling update() as fast as the CPU allows</p>
+	 *
+	 * @param AICount     AI players count
+	 * @param mapFilePath map of the game path
+	 * @throws IOException handled Err
+	 */
+	public GameManager(int AICount, String mapFilePath) throws IOException {
+		this(Role.PEER, AICount, mapFilePath, null, null, null, true);
+	}
+
+	/**
+	 * Object Constructor
+	 *
+	 * @param role        Network role
+	 * @param AICount     AI players count (Only spawned in headless mode)
+	 * @param mapFilePath map of the game path
+	 * @param mapType     Map type
+	 * @param transport   Transport obj (Null if offline)
+	 * @param screenSize  Screen the map is centered on (Null for this screen, or the origin in headless mode)
+	 * @param headless    Headless indicator
+	 * @throws IOException handled Err
+	 */
+	private GameManager(Role role, int AICount, String mapFilePath, String mapType, Transport transport, Dimension screenSize, boolean headless) throws IOException {
 		gameOver = false;
+		this.headless = headless;
+		this.role = role;
+		this.mapFilePath = mapFilePath;
+		this.hasMap = role != Role.CLIENT;
 
 		this.availableTanks = new ArrayList<>() {
 			{
@@ -93,8 +201,10 @@ public class GameManager {
 		this.players = new ArrayList<>();
 		this.airSupports = new ArrayList<>();
 		this.random = new Random();
-		this.IP = IP;
-		this.port = port;
+		this.tankHash = new SpatialHash<>(64, 256);
+		this.carePackageHash = new SpatialHash<>(64, 64);
+		this.transport = transport != null ? new OutboundBatcher(transport) : null;
+		this.events = transport != null ? new EventChannel(this.transport) : null;
 
 		keyUP = false;
 		keyDOWN = false;
@@ -105,24 +215,61 @@ public class GameManager {
 
 		this.keyHandler = new KeyHandler();
 
-		group = InetAddress.getByName(IP);
-		socket = new MulticastSocket(port);
+		this.sendBuffer = ByteBuffer.allocateDirect(Protocol.MAX_PACKET_SIZE);
+		this.keyframeBuffer = ByteBuffer.allocateDirect(Protocol.MAX_PACKET_SIZE);
 
-		socket.setTimeToLive(0);
-		socket.joinGroup(group);
+		// The generator lays one map out at a time, keep this game's layout (Other games of the process lay their own out)
+		synchronized (ObstacleGenerator.class) {
+			if (headless) {
 
-		// Add all the obstacles (ie. walls) (Note: this function must be called before spawning the players!)
-		this.obstacles = generateObstacles(this.tiles, mapFilePath);
+				// Add all the obstacles (ie. walls), starting at the origin unless a screen is given (Note: this function must be called before spawning the players!)
+				this.obstacles = generateObstacles(this.tiles, mapFilePath, screenSize);
+				this.arenaSize = screenSize != null ? screenSize : new Dimension(GameFrame.GAME_WIDTH, GameFrame.GAME_HEIGHT);
 
-		// Initialize self
-		spawnPlayer();
+				// Initialize the AI players
+				for (int i = 0; i < AICount; i++)
+					spawnPlayer("AI " + (i + 1), true, IDAllocator.next(), false);
 
-		// Initialize & start a reader thread (Note: thread must be started after player spawn!)
-		Thread readerThread = new Thread(new ReadThread(socket, group, port));
-		readerThread.start();
+				this.background = null;
+			} else {
+				// Add all the obstacles (ie. walls) (Note: this function must be called before spawning the players!)
+				this.arenaSize = screenSize != null ? screenSize : Toolkit.getDefaultToolkit().getScreenSize();
+				this.obstacles = generateObstacles(this.tiles, mapFilePath, arenaSize);
+
+				// Initialize self
+				spawnPlayer();
+
+				// Renders the background image of the game (Note: this function must be called after generating the obstacles)
+				this.background = BackgroundRenderer.render(mapType, ObstacleGenerator.getMap(), GameFrame.GAME_WIDTH, GameFrame.GAME_HEIGHT, 64, 64);
+			}
+			this.obstacleGrid = ObstacleGenerator.grid;
+			this.mapOrigin = ObstacleGenerator.origin;
+			this.pathMap = ObstacleGenerator.getMap();
+		}
 
-		// Renders the background image of the game (Note: this function must be called after generating the obstacles)
-		this.background = BackgroundRenderer.render(mapType, ObstacleGenerator.getMap(), GameFrame.GAME_WIDTH, GameFrame.GAME_HEIGHT, 64, 64);
+		// Plan the paths on the map as it is now (Fences block the way until they are destroyed)
+		for (Obstacle obstacle : obstacles)
+			if (obstacle instanceof Fence && ((Fence) obstacle).getMapRow() >= 0)
+				pathMap[((Fence) obstacle).getMapRow()][((Fence) obstacle).getMapColumn()] = 1;
+
+		// Keep the layout for the clients to lay their map out the same way (See handleMapRequest)
+		if (role == Role.SERVER) {
+			sentMap.rows = pathMap.length;
+			sentMap.columns = pathMap[0].length;
+			sentMap.originX = mapOrigin.x;
+			sentMap.originY = mapOrigin.y;
+			sentMap.fences = new boolean[sentMap.rows][sentMap.columns];
+			for (Obstacle obstacle : obstacles)
+				if (obstacle instanceof Fence && ((Fence) obstacle).getMapRow() >= 0)
+					sentMap.fences[((Fence) obstacle).getMapRow()][((Fence) obstacle).getMapColumn()] = true;
+		}
+
+		// Initialize & start a reader thread (Note: thread must be started after player spawn!)
+		if (transport != null) {
+			Thread readerThread = new Thread(new ReadThread(transport));
+			readerThread.setDaemon(true);
+			readerThread.start();
+		}
 
 		// generate some CarePackages
 		carePackageGenerator = new CarePackageGenerator(tiles);
@@ -131,143 +278,166 @@ public class GameManager {
 	/**
 	 * The method updates the game state.
 	 * <p>Note that order of the drawing is important for both rendering speed and outfitting!</p>
+	 *
+	 * @param dt Length of the tick (Seconds)
 	 */
-	public void update() {
+	public void update(double dt) {
+		tickLength = dt;
 
-		// ------------- Start Sending Packages ------------
+		// Keep the previous tick's state for interpolated rendering
+		for (Player player : players)
+			player.getTank().savePreviousState();
+		for (Explosive explosive : explosives)
+			explosive.savePreviousState();
+
+		// Apply what the network has received since the last tick (All world mutation happens on this thread)
+		tickCount++;
+		inbox.drain(inboxHandler);
+
+		// Play the remote players back a little in the past, in between the received snapshots
 		for (Player player : players) {
-			// Send self data to the socket - There is no server, so the first to join is the leader (admin)
-			if (player.isME) {
-				try {
-					// Player & tank's frame info
-					String bufferString = player.getPlayerID() + "," + player.getDeathCount() + "," + player.getKillCount() + "," + player.isDead + "," + player.exploded + ",";
-					bufferString += player.getTank().x + "," + player.getTank().y + "," + player.getTank().getRotation() + "," + player.getTank().getThrust() + "," + player.getTank().getHealth() + ",";
-					bufferString += player.getTank().explosiveName + ",";
-					bufferString += player.getTank().firePowerCoefficient + "," + player.getTank().explosiveSpeedCoefficient + "," + player.getTank().activateBuff + ',' + player.getTank().shield + "," + player.getTank().ghost + ",";
-					bufferString += player.getName() + "," + player.isAI() + "," + player.getTeamID() + "," + player.getTank().getTankName();
-
-					byte[] buffer = (bufferString).getBytes();                                             // Get info bytes
-					DatagramPacket datagram = new DatagramPacket(buffer, buffer.length, group, port);    // Create transfer protocol
-					socket.send(datagram);                    // Send!
-				} catch (Exception ex) {
-					System.out.println("\033[1;31mPackage transfer failed for '" + player.getPlayerID() + "' (GameManager Connection Error).\033[0m");
-					ex.printStackTrace();
-				}
+			SnapshotBuffer snapshot = snapshots.get(player);
+			if (snapshot != null && snapshot.advance(dt)) {
+				Tank tank = player.getTank();
+				tank.setX((int) Math.round(snapshot.getX()));
+				tank.setY((int) Math.round(snapshot.getY()));
+				tank.setRotation(snapshot.getRotation());
+				viewTick = (int) Math.round(snapshot.getPlaybackTime() / tickLength);
 			}
 		}
+
+		// ------------- Start Sending Packages ------------
+		captureInput();
+		ticksSinceKeyframe++;
+		if (transport != null) {
+			// A state every few ticks (A keyframe every once in a while, only the changes in between)
+			boolean keyframe = ticksSinceKeyframe >= Protocol.KEYFRAME_INTERVAL;
+			boolean isDue = keyframe || tickCount % Protocol.STATE_INTERVAL == 0;
+			if (keyframe)
+				ticksSinceKeyframe = 0;
+
+			// Peers send themselves (There is no server, so the first to join is the leader (admin)), the server sends everyone
+			// (To the clients around them, if the clients can be reached one by one)
+			if (role == Role.SERVER && isDue && unicastStates)
+				sendStates(keyframe);
+			else if (role != Role.CLIENT && isDue)
+				for (Player player : players)
+					if (role == Role.SERVER || player.isME)
+						sendPlayer(player, sentKeyframes.computeIfAbsent(player, k -> new PlayerState()), keyframe);
+
+			// Clients only send their input, the server moves them (Once they play on the server's map)
+			if (role == Role.CLIENT && hasMap)
+				sendInput();
+			else if (role == Role.CLIENT && tickCount % Protocol.MAP_REQUEST_INTERVAL == 1)
+				requestMap();
+		}
 		// ------------- End Sending Packages ------------
 
+		// Turn off the expired effects of the picked care packages, and index the rest
+		carePackageHash.clear();
+		for (CarePackage carePackage : carePackages)
+			if (carePackage.getTank() != null)
+				carePackage.turnOff();
+			else if (!carePackage.isUsed())
+				carePackageHash.insert(carePackage, carePackage.getX(), carePackage.getY(), carePackage.getWidth(), carePackage.getHeight());
+
 		// Check explosives collision, fire, rotate, movement, obstacle collision, care package collision with players
 		for (Player player : players) {
-			// Movement, rotate & fire stuff
-			if (player.isME) {
-				switch (player.getTank().getMarched()) {
-					case 0:
-						player.move(keyLEFT ? -1 : (keyRIGHT ? +1 : 0), keyUP ? +1 : (keyDOWN ? -1 : 0));
-						break;
-					case 1:
-						player.move(keyLEFT ? -1 : (keyRIGHT ? +1 : 0), keyUP ? 0 : (keyDOWN ? -1 : 0));
-						break;
-					case -1:
-						player.move(keyLEFT ? -1 : (keyRIGHT ? +1 : 0), keyUP ? +1 : (keyDOWN ? 0 : 0));
-						break;
-				}
-
-				// Switch weapons
-				if (keyCTRL && !player.isDead && player.equals(players.get(0))) {
-					switch (player.getTank().getExplosiveName()) {
-						case "bomb":
-							player.getTank().setExplosiveName("missile");
-							break;
-						case "missile":
-							player.getTank().setExplosiveName("bomb");
-							break;
-					}
-
-					keyCTRL = false;
-				}
+			// Movement, rotate & fire stuff (AI, simulated by the server if there is one)
+			InputState input = getInput(player);
+			if (player.getTank() instanceof TankAI && !player.isME && !player.isDead && role != Role.CLIENT) {
+				int[] decision = ((TankAI) player.getTank()).decide(obstacleGrid);
+				player.move(decision[0], decision[1], dt);
+
+				// Fire explosives every now and then
+				if (player.getTank().canFire() && random.nextDouble() * aiFireChance < dt * GameLoop.TICK_RATE)
+					addExplosive(player.getTank().fire());
+			}
 
-				// Fire explosives!
-				if (keySPACE && player.getTank().canFire() && !player.isDead) {
-					//this.tank.setExplosiveName("missile");
-					this.explosives.add(player.getTank().fire());
+			// Movement, rotate & fire stuff (Self, or a client on the server)
+			if (input != null)
+				applyInput(player, input);
 
-					sendExplosiveToSocket(explosives.get(explosives.size() - 1));    // Send the created explosive to the socket
+			// Obstacle collision Stuff (Only the obstacles around the tank can collide)
+			resolveObstacles(player, input, false);
 
-					// Disable auto-cannon
-					keySPACE = false;
+			// Care packages collision stuff (Only the packages around the tank can be picked)
+			for (CarePackage carePackage : queryCarePackages(player.getTank().getCollisionBounds()))
+				if (player.getTank().hasCollision(carePackage.getX(), carePackage.getY(), carePackage.getWidth(), carePackage.getHeight()) && !carePackage.isUsed() && !player.getTank().isActivateBuff()) {
+					carePackage.setTank(player.getTank());
+					carePackage.doAction(player.getTank());
 				}
-			}
+		}
 
-			// Obstacle collision Stuff
-			int collisionCount = 0;
-
-			for (Obstacle obstacle : obstacles) {
-				// Check collision with Tanks
-				if (player.getTank().getGhost() && obstacle != null && player.getTank().hasCollision(obstacle.getX(), obstacle.getY(), obstacle.getWidth(), obstacle.getHeight())) {
-					player.getTank().setMarched(march(player, obstacle));
-
-					// Avoid moving into the obstacles
-					switch (player.getTank().getMarched()) {
-						case 0:
-							player.move(0, keyUP ? +1 : (keyDOWN ? -1 : 0));
-							break;
-						case 1:
-							player.move(0, keyUP ? 0 : (keyDOWN ? -1 : 0));
-							break;
-						case -1:
-							player.move(0, keyUP ? +1 : (keyDOWN ? 0 : 0));
-							break;
-					}
-					collisionCount++;
-				}
+		// The server replicates every new explosive (Bombing runs are only simulated on the server)
+		if (role == Role.SERVER)
+			for (Explosive explosive : explosives)
+				if (!(explosive instanceof BombingRun))
+					sendExplosiveToSocket(explosive);
 
-				// Move mode, normal
-				if (collisionCount == 0) player.getTank().setMarched(0);
+		// Index the alive tanks at their new location
+		int aliveCount = 0;
+		tankHash.clear();
+		for (Player player : players) {
+			if (!player.isDead) {
+				Rectangle bounds = player.getTank().getCollisionBounds();
+				tankHash.insert(player, bounds.x, bounds.y, bounds.width, bounds.height);
+				aliveCount++;
 			}
 
-			// Care packages collision stuff
-			for (CarePackage carePackage : carePackages)
-				if (player.getTank().hasCollision(carePackage.getX(), carePackage.getY(), carePackage.getWidth(), carePackage.getHeight()) && !carePackage.isUsed() && !player.getTank().isActivateBuff()) {
-					carePackage.setTank(player.getTank());
-					carePackage.doAction(player.getTank());
-				} else if (carePackage.getTank() != null && carePackage.getTank().equals(player.getTank()))
-					carePackage.turnOff();
+			// Remember where the tanks were, for lag compensation
+			if (role == Role.SERVER) {
+				HitboxHistory history = hitboxes.get(player);
+				if (history == null)
+					hitboxes.put(player, history = new HitboxHistory(maxRewindTicks + 1));
+				history.record(tickCount, player.getTank().getX(), player.getTank().getY());
+			}
 		}
 
 		for (Explosive explosive : explosives) {
-			for (Obstacle obstacle : obstacles) {
-				// Collision between obstacles & explosives
-				if (obstacle != null) {
+			// Collision between the bombing runs & fences (Moving explosives collide along their path, see Explosive.update)
+			if (explosive instanceof BombingRun)
+				for (Obstacle obstacle : queryObstacles(explosive.getCollisionBounds()))
 					explosive.checkCollision(obstacle.getX(), obstacle.getY(), obstacle.getWidth(), obstacle.getHeight(), obstacle);
 
-					// Kill missiles on collision to any game object. Kill anything that hits the corners
-					if ((explosive instanceof Missile || obstacle instanceof Corner) && !(explosive instanceof BombingRun) &&
-							explosive.hasCollision(obstacle.getX(), obstacle.getY(), obstacle.getWidth(), obstacle.getHeight()))
-						// if laser power-up is active and hit fence
-						if (!(explosive.getThrust() > 5 && obstacle instanceof Fence)) explosive.setDead(true);
-				}
-			}
-
-			// Check collision between explosives & tanks
-			for (Player player : players) {
+			// Check collision between explosives & tanks (Only the tanks around the explosive can be hit. Lag compensated
+			// explosives test every tank where the shooter saw it, which the spatial hash doesn't know about)
+			int checkedCount = 0, rewindTicks = explosive.getRewindTicks();
+			for (Player player : rewindTicks > 0 ? players : queryTanks(explosive.getCollisionBounds())) {
 				// Check collision only if player is alive
 				//System.out.println(!player.getTank().getGhost());
 				if (!player.isDead /*&& !player.getTank().getGhost()*/) {
-					explosive.checkHit(player.getTank());
-
-					// If ran out of health, set to disposal
-					if (player.getTank().getHealth() <= 0)
+					HitboxHistory history = hitboxes.get(player);
+					int index = rewindTicks > 0 && player.getTank() != explosive.getShooter() && history != null ? history.find(tickCount - rewindTicks) : -1;
+					if (index >= 0)
+						explosive.checkHit(player.getTank(), history.getX(index), history.getY(index));
+					else
+						explosive.checkHit(player.getTank());
+					checkedCount++;
+
+					// If ran out of health, set to disposal (Clients wait for the server to tell)
+					if (player.getTank().getHealth() <= 0 && role != Role.CLIENT) {
 						player.isDead = true;
+						aliveCount--;
+					}
 				}
 			}
 
+			// The tanks out of reach have no collision with the explosive, which activates it (See Explosive.checkHit)
+			if (checkedCount < aliveCount)
+				explosive.setCanExplode(true);
+
 			if (explosive instanceof BombingRun && ((BombingRun) explosive).isHit()) explosive.setDead(true);
 		}
 
-		// Check collision between the tanks
+		// Check collision between the tanks (Only the tanks around each other can collide)
 		for (Player player1 : players) {
-			for (Player player2 : players)
+			if (player1.isDead)
+				continue;
+
+			Rectangle bounds = player1.getTank().getCollisionBounds();
+			bounds.grow(bounds.width / 2, bounds.height / 2);
+			for (Player player2 : queryTanks(bounds))
 				if (player1.getTank().getGhost() && player2.getTank().getGhost() && player1.getTank().checkTankCollision(player2) && !player1.equals(player2) && !player1.isDead)
 					player1.getTank().pushTank(player2.getTank());
 		}
@@ -276,17 +446,30 @@ public class GameManager {
 		for (AirSupport airSupport : airSupports) {
 			if (airSupport.canDrop()) {
 				airSupport.drop();
-				explosives.add(new BombingRun(airSupport.getX(), airSupport.getY(), 10, 1.0d));
+				addExplosive(new BombingRun(airSupport.getX(), airSupport.getY(), 10, 1.0d));
 				if (airSupport.getBombCount() >= 0) {
 					airSupport.setBombCount(airSupport.getBombCount() - 1);
 					airSupport.setHaveDropped(false);
 				}
 			}
-			airSupport.move();
+			airSupport.update(dt);
 		}
 
-		// Spawn new care-packages
-		if (carePackageGenerator.timeDif() >= 10000) {
+		// Move the explosives (Bombs & missiles) and count down the bombing runs
+		for (Explosive explosive : explosives)
+			explosive.update(dt, obstacleGrid);
+
+		// Age the visual effects (ie. tracks, explosions & care package animations)
+		for (Player player : players)
+			player.update(dt);
+		for (Explosion explosion : explosions)
+			explosion.update(dt);
+		for (CarePackage carePackage : carePackages)
+			carePackage.update(dt);
+
+		// Spawn new care-packages (Clients get them from the server)
+		carePackageGenerator.update(dt);
+		if (carePackageGenerator.timeDif() >= 10000 && role != Role.CLIENT) {
 
 			int rand;
 			do {
@@ -298,41 +481,361 @@ public class GameManager {
 			int x = (int) (tile.getX() + (tile.getWidth() - 14 * 0.3d) / 2) + 2;
 			int y = (int) (tile.getY() + (tile.getHeight() - 14 * 0.3d) / 2) + 2;
 
+			CarePackage carePackage = null;
 			switch (random.nextInt(6)) {
 				case 0:
-					carePackageGenerator.spawnPerk(x, y, "ghost", carePackages);
+					carePackage = carePackageGenerator.spawnPerk(x, y, "ghost", carePackages);
 					break;
 				case 1:
-					carePackageGenerator.spawnPerk(x, y, "health", carePackages);
+					carePackage = carePackageGenerator.spawnPerk(x, y, "health", carePackages);
 					break;
 				case 2:
-					carePackageGenerator.spawnPerk(x, y, "power", carePackages);
+					carePackage = carePackageGenerator.spawnPerk(x, y, "power", carePackages);
 					break;
 				case 3:
-					carePackageGenerator.spawnPerk(x, y, "speed", carePackages);
+					carePackage = carePackageGenerator.spawnPerk(x, y, "speed", carePackages);
 					break;
 				case 4:
-					carePackageGenerator.spawnPerk(x, y, "laser", carePackages);
+					carePackage = carePackageGenerator.spawnPerk(x, y, "laser", carePackages);
 					break;
 				case 5:
-					carePackageGenerator.spawnPerk(x, y, "shield", carePackages);
+					carePackage = carePackageGenerator.spawnPerk(x, y, "shield", carePackages);
 					break;
 			}
 
 			// Send to server for transfer
-			if (carePackages.size() != 0)
-				sendCarePackageToSocket(carePackages.get(carePackages.size() - 1));
+			if (carePackage != null) {
+				carePackageIndex.put(carePackage.getCarePackageID(), carePackage);
+				sendCarePackageToSocket(carePackage);
+			}
 		}
 
-		// Spawn new air support
-		if (random.nextInt(100) == 1) {
-			int rand = random.nextInt(players.size());
-			if (!players.get(rand).isDead && players.get(rand) != null)
-				airSupports.add(new AirSupport(players.get(rand)));
+		// Spawn new air support (Not on clients, nor on an empty server)
+		if (role != Role.CLIENT && !players.isEmpty() && random.nextInt(100) == 1) {
+			Player target = players.get(random.nextInt(players.size()));
+			if (target != null && !target.isDead)
+				airSupports.add(new AirSupport(target, arenaSize));
 		}
 
 		// Remove the disposed game objects
 		disposalHandler();
+
+		// Acknowledge the received events & resend the lost ones, then send everything the tick has produced
+		if (transport != null)
+			try {
+				events.update(dt);
+				transport.flush();
+			} catch (IOException ex) {
+				ex.printStackTrace();
+			}
+	}
+
+	/**
+	 * Reads the input of self from the keyboard
+	 * <p>Arrow keys are held, while the fire & switch keys are pressed once and kept until they have been acted on</p>
+	 */
+	private void captureInput() {
+		if (!hasMap || players.isEmpty() || !players.get(0).isME)
+			return;
+
+		int pressed = localInput.keys & (InputState.FIRE | InputState.SWITCH);
+		localInput.ID = players.get(0).getPlayerID();
+		localInput.sequence++;
+		localInput.viewTick = viewTick;
+		localInput.keys = (keyUP ? InputState.UP : 0) | (keyDOWN ? InputState.DOWN : 0) | (keyLEFT ? InputState.LEFT : 0) |
+				(keyRIGHT ? InputState.RIGHT : 0) | (keySPACE ? InputState.FIRE : 0) | (keyCTRL ? InputState.SWITCH : 0) | pressed;
+		keySPACE = false;
+		keyCTRL = false;
+
+		// Clients predict their own movement, and keep the input until the server has applied it too
+		if (role == Role.CLIENT)
+			predictedInputs.append().copyFrom(localInput);
+	}
+
+	/**
+	 * Returns the input that drives the player
+	 *
+	 * @param player Player obj
+	 * @return Input (Null if the player is not driven by an input here, ie. AI & remote players)
+	 */
+	private InputState getInput(Player player) {
+		if (player.isME)
+			return localInput;     // Clients only predict themselves, the server moves everyone
+		return role == Role.SERVER ? nextInput(player) : null;
+	}
+
+	/**
+	 * Moves the tank forward or backward as the input says, unless an obstacle is in the way (See march)
+	 *
+	 * @param player   Player obj
+	 * @param input    Input (Null to stand still)
+	 * @param rotation Rotation direction
+	 * @param isReplay Replay indicator (Replayed moves leave no tracks)
+	 */
+	private void drive(Player player, InputState input, int rotation, boolean isReplay) {
+		boolean up = input != null && input.isDown(InputState.UP), down = input != null && input.isDown(InputState.DOWN);
+
+		int dir = 0;
+		switch (player.getTank().getMarched()) {
+			case 0:
+				dir = up ? +1 : (down ? -1 : 0);
+				break;
+			case 1:
+				dir = up ? 0 : (down ? -1 : 0);
+				break;
+			case -1:
+				dir = up ? +1 : (down ? 0 : 0);
+				break;
+		}
+
+		if (isReplay)
+			player.getTank().move(rotation, dir, tickLength);
+		else
+			player.move(rotation, dir, tickLength);
+	}
+
+	/**
+	 * Pushes the tank back out of the obstacles it has driven into
+	 *
+	 * @param player   Player obj
+	 * @param input    Input (Null if the tank is not driven by an input)
+	 * @param isReplay Replay indicator (Replayed moves leave no tracks)
+	 */
+	private void resolveObstacles(Player player, InputState input, boolean isReplay) {
+		int collisionCount = 0;
+
+		for (Obstacle obstacle : queryObstacles(player.getTank().getCollisionBounds())) {
+			// Check collision with Tanks
+			if (player.getTank().getGhost() && player.getTank().hasCollision(obstacle.getX(), obstacle.getY(), obstacle.getWidth(), obstacle.getHeight())) {
+				player.getTank().setMarched(march(player, obstacle));
+
+				// Avoid moving into the obstacles
+				drive(player, input, 0, isReplay);
+				collisionCount++;
+			}
+		}
+
+		// Move mode, normal
+		if (collisionCount == 0) player.getTank().setMarched(0);
+	}
+
+	/**
+	 * Rewinds self to the state the server has sent, and replays the inputs the server hasn't applied yet (Client only)
+	 *
+	 * @param player   Self
+	 * @param sequence Last input the server has applied
+	 */
+	private void reconcile(Player player, int sequence) {
+		predictedInputs.acknowledge(sequence);
+		for (int i = 0; i < predictedInputs.size(); i++) {
+			InputState input = predictedInputs.get(i);
+			drive(player, input, input.isDown(InputState.LEFT) ? -1 : (input.isDown(InputState.RIGHT) ? +1 : 0), true);
+			resolveObstacles(player, input, true);
+		}
+	}
+
+	/**
+	 * Moves on to the next received input of a client (Server only)
+	 * <p>One input is applied per tick, like the client did. If none has arrived in time, the last one is held (The
+	 * client corrects itself once it hears back). A fire or switch press is kept until it has been acted on</p>
+	 *
+	 * @param player Player obj
+	 * @return Input (Null if the player is not a client)
+	 */
+	private InputState nextInput(Player player) {
+		InputState input = inputs.get(player);
+		InputBuffer pending = pendingInputs.get(player);
+		if (input == null || pending.size() == 0)
+			return input;
+
+		int pressed = input.keys & (InputState.FIRE | InputState.SWITCH);
+		input.copyFrom(pending.get(0));
+		input.keys |= pressed;
+		pending.removeFirst();
+		return input;
+	}
+
+	/**
+	 * Moves, rotates & fires the player's tank as the input says
+	 * <p>The fire & switch keys are consumed once they have been acted on. Clients only move, the server fires</p>
+	 *
+	 * @param player Player obj
+	 * @param input  Input
+	 */
+	private void applyInput(Player player, InputState input) {
+		drive(player, input, input.isDown(InputState.LEFT) ? -1 : (input.isDown(InputState.RIGHT) ? +1 : 0), false);
+		if (role == Role.CLIENT)
+			return;
+
+		// Switch weapons
+		if (input.isDown(InputState.SWITCH) && !player.isDead) {
+			switch (player.getTank().getExplosiveName()) {
+				case "bomb":
+					player.getTank().setExplosiveName("missile");
+					break;
+				case "missile":
+					player.getTank().setExplosiveName("bomb");
+					break;
+			}
+
+			input.keys &= ~InputState.SWITCH;
+		}
+
+		// Fire explosives!
+		if (input.isDown(InputState.FIRE) && player.getTank().canFire() && !player.isDead) {
+			addExplosive(player.getTank().fire());
+
+			// Clients see the other tanks in the past, so their explosives hit where they aimed (Within a bounded window)
+			if (role == Role.SERVER && input.viewTick > 0)
+				explosives.get(explosives.size() - 1).setLagCompensation(player.getTank(), Math.max(0, Math.min(maxRewindTicks, tickCount - input.viewTick)));
+
+			sendExplosiveToSocket(explosives.get(explosives.size() - 1));    // Send the created explosive to the socket
+
+			// Disable auto-cannon
+			input.keys &= ~InputState.FIRE;
+		}
+	}
+
+	/**
+	 * Sends the state of the player (A keyframe, or the changes since the last one)
+	 * <p>A delta is sent even if nothing has changed, its tick tells the receivers that the tank is still there</p>
+	 *
+	 * @param player   Player obj
+	 * @param keyframe Last sent keyframe of the player
+	 * @param isDue    Indicates whether a keyframe is due or not (A player's first state is always a keyframe)
+	 */
+	private void sendPlayer(Player player, PlayerState keyframe, boolean isDue) {
+		try {
+			capturePlayer(player, sentPlayer);
+			if (isDue || keyframe.ID != sentPlayer.ID) {
+				sentPlayer.sequence = (short) (keyframe.sequence + 1);
+				sentPlayer.write(sendBuffer);
+				send(sendBuffer);
+
+				keyframe.copyFrom(sentPlayer);
+			} else {
+				sentPlayer.writeDelta(sendBuffer, keyframe, sentPlayer.getChangedFields(keyframe));
+				send(sendBuffer);
+			}
+		} catch (Exception ex) {
+			System.out.println("\033[1;31mPackage transfer failed for '" + player.getPlayerID() + "' (GameManager Connection Error).\033[0m");
+			ex.printStackTrace();
+		}
+	}
+
+	/**
+	 * Sends the state of every player to the clients interested in it (Server only)
+	 * <p>Interest management: the map is split into square regions. A client gets the changes of the players in its own
+	 * region & the neighbouring ones every state interval, while the players further away are only sent as keyframes
+	 * (ie. a summary every KEYFRAME_INTERVAL ticks). So what a client receives & decodes depends on how crowded its
+	 * surroundings are, not on the size of the arena or the number of players</p>
+	 *
+	 * <p>Each state is encoded once & sent to every interested client. A client that doesn't have the current keyframe
+	 * of a player yet (ie. the player has just come close) gets it right before the changes. If that keyframe is lost,
+	 * the client asks for it again (See requestKeyframe)</p>
+	 *
+	 * @param keyframe Indicates whether the keyframes are due or not
+	 */
+	private void sendStates(boolean keyframe) {
+		try {
+			for (int i = 0; i < players.size(); i++) {
+				Player player = players.get(i);
+				PlayerState baseline = sentKeyframes.computeIfAbsent(player, k -> new PlayerState());
+
+				// Encode the state once: either a new keyframe, or the changes since the last one
+				capturePlayer(player, sentPlayer);
+				boolean isKeyframe = keyframe || baseline.ID != sentPlayer.ID, isEncoded = false;
+				if (isKeyframe) {
+					sentPlayer.sequence = (short) (baseline.sequence + 1);
+					baseline.copyFrom(sentPlayer);
+				} else {
+					sentPlayer.writeDelta(sendBuffer, baseline, sentPlayer.getChangedFields(baseline));
+					sendBuffer.flip();
+				}
+
+				int regionX = Math.floorDiv(player.getTank().getX(), interestRegionSize), regionY = Math.floorDiv(player.getTank().getY(), interestRegionSize);
+				for (Player client : clients) {
+					// The distant clients wait for the next keyframe
+					Tank tank = client.getTank();
+					boolean isNear = Math.abs(Math.floorDiv(tank.getX(), interestRegionSize) - regionX) <= 1 &&
+							Math.abs(Math.floorDiv(tank.getY(), interestRegionSize) - regionY) <= 1;
+					if (!isKeyframe && !isNear)
+						continue;
+
+					SocketAddress address = clientAddresses.get(client);
+					int[] delivered = getDeliveredKeyframes(client);
+					if (delivered[i] != baseline.sequence) {
+						if (!isEncoded) {
+							baseline.write(keyframeBuffer);
+							keyframeBuffer.flip();
+							isEncoded = true;
+						}
+						keyframeBuffer.rewind();
+						transport.send(keyframeBuffer, address);
+						delivered[i] = baseline.sequence;
+					}
+					if (!isKeyframe) {
+						sendBuffer.rewind();
+						transport.send(sendBuffer, address);
+					}
+				}
+			}
+		} catch (IOException ex) {
+			ex.printStackTrace();
+		}
+	}
+
+	/**
+	 * Returns the keyframe sequence of each player last sent to a client (Grown as the players join)
+	 *
+	 * @param client Client's player
+	 * @return Keyframe sequences by player index (Integer.MIN_VALUE if none has been sent)
+	 */
+	private int[] getDeliveredKeyframes(Player client) {
+		int[] delivered = deliveredKeyframes.get(client);
+		if (delivered == null || delivered.length < players.size()) {
+			int length = delivered == null ? 0 : delivered.length;
+			delivered = delivered == null ? new int[players.size()] : Arrays.copyOf(delivered, players.size());
+			Arrays.fill(delivered, length, delivered.length, Integer.MIN_VALUE);
+			deliveredKeyframes.put(client, delivered);
+		}
+		return delivered;
+	}
+
+	/**
+	 * Sets the side of the interest regions (Server only, see sendStates)
+	 *
+	 * @param interestRegionSize Side of a region (Pixels)
+	 */
+	public void setInterestRegionSize(int interestRegionSize) {
+		this.interestRegionSize = interestRegionSize;
+	}
+
+	/**
+	 * Sends the input of self to the server
+	 * <p>The newest few inputs are sent again & again until the server acknowledges them, so a lost datagram costs no input</p>
+	 */
+	private void sendInput() {
+		if (localInput.ID == 0)
+			return;
+
+		try {
+			predictedInputs.write(sendBuffer, localInput.ID, Protocol.MAX_REDUNDANT_INPUTS);
+			send(sendBuffer);
+		} catch (IOException ex) {
+			ex.printStackTrace();
+		}
+		localInput.keys &= ~(InputState.FIRE | InputState.SWITCH);
+	}
+
+	/**
+	 * Adds an explosive to the game & indexes it by its ID
+	 *
+	 * @param explosive Explosive obj
+	 */
+	private void addExplosive(Explosive explosive) {
+		explosives.add(explosive);
+		explosiveIndex.put(explosive.getExplosiveID(), explosive);
 	}
 
 	/**
@@ -342,24 +845,22 @@ public class GameManager {
 	 */
 	private void sendExplosiveToSocket(Explosive explosive) {
 		// If obj has not been send before
-		if (!explosive.isTransferred) {
+		if (!explosive.isTransferred && transport != null) {
 			try {
-				String bufferString = explosive.getExplosiveID() + "," + explosive.getX() + "," + explosive.getY() + "," + explosive.getRotation() + "," + explosive.getWidth() + "," + explosive.getHeight() + ",";
-				bufferString += explosive.getScale() + "," + explosive.getDamage() + "," + explosive.getThrust() + ",";
-				if (explosive.getColor() == Color.RED)
-					bufferString += "red";
-				else if (explosive.getColor() == Color.BLUE)
-					bufferString += "blue";
-				else if (explosive.getColor() == Color.BLACK)
-					bufferString += "black";
-				else if (explosive.getColor() == Color.GREEN)
-					bufferString += "green";
-				else
-					bufferString += "sand";
-
-				byte[] buffer = (bufferString).getBytes();                                             // Get info bytes
-				DatagramPacket datagram = new DatagramPacket(buffer, buffer.length, group, port);    // Create transfer protocol
-				socket.send(datagram);                    // Send!
+				sentExplosive.ID = explosive.getExplosiveID();
+				sentExplosive.type = Protocol.indexOf(Protocol.EXPLOSIVE_NAMES, explosive instanceof Missile ? "missile" : "bomb");
+				sentExplosive.x = explosive.getX();
+				sentExplosive.y = explosive.getY();
+				sentExplosive.rotation = explosive.getRotation();
+				sentExplosive.width = explosive.getWidth();
+				sentExplosive.height = explosive.getHeight();
+				sentExplosive.scale = explosive.getScale();
+				sentExplosive.damage = explosive.getDamage();
+				sentExplosive.thrust = explosive.getThrust();
+				sentExplosive.color = Protocol.indexOf(Protocol.COLOR_NAMES, getColorName(explosive.getColor()));
+
+				sentExplosive.write(sendBuffer);
+				sendEvent(sendBuffer);
 
 				explosive.isTransferred = true;
 			} catch (Exception ex) {
@@ -376,28 +877,29 @@ public class GameManager {
 	private void sendCarePackageToSocket(CarePackage carePackage) {
 
 		// If obj has not been send before
-		if (!carePackage.isTransferred) {
+		if (!carePackage.isTransferred && transport != null) {
 			try {
-				String bufferString = "carePackage,";
-
+				String type;
 				if (carePackage instanceof Ghost)
-					bufferString += "ghost";
+					type = "ghost";
 				else if (carePackage instanceof Health)
-					bufferString += "health";
+					type = "health";
 				else if (carePackage instanceof Laser)
-					bufferString += "laser";
+					type = "laser";
 				else if (carePackage instanceof Power)
-					bufferString += "power";
+					type = "power";
 				else if (carePackage instanceof Shield)
-					bufferString += "shield";
+					type = "shield";
 				else
-					bufferString += "speed";
+					type = "speed";
 
-				bufferString += "," + carePackage.getX() + "," + carePackage.getY() + "," + carePackage.getCarePackageID();
+				sentCarePackage.ID = carePackage.getCarePackageID();
+				sentCarePackage.type = Protocol.indexOf(Protocol.CARE_PACKAGE_NAMES, type);
+				sentCarePackage.x = carePackage.getX();
+				sentCarePackage.y = carePackage.getY();
 
-				byte[] buffer = (bufferString).getBytes();                                             // Get info bytes
-				DatagramPacket datagram = new DatagramPacket(buffer, buffer.length, group, port);    // Create transfer protocol
-				socket.send(datagram);                    // Send!
+				sentCarePackage.write(sendBuffer);
+				sendEvent(sendBuffer);
 
 				carePackage.isTransferred = true;
 
@@ -407,6 +909,529 @@ public class GameManager {
 		}
 	}
 
+	/**
+	 * Sends the encoded message to the group
+	 *
+	 * @param buffer Buffer holding the message (From the start up to its position)
+	 * @throws IOException handled Err
+	 */
+	private void send(ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		transport.send(buffer, null);
+	}
+
+	/**
+	 * Sends the encoded message to the group reliably (See EventChannel)
+	 *
+	 * @param buffer Buffer holding the message (From the start up to its position)
+	 * @throws IOException handled Err
+	 */
+	private void sendEvent(ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		events.send(buffer);
+	}
+
+	/**
+	 * Applies a message drained from the inbox
+	 *
+	 * @param message Message
+	 */
+	private void handleMessage(InboundMessage message) {
+		switch (message.type) {
+			case Protocol.PLAYER:
+				handlePlayer(message.player);
+				break;
+			case Protocol.EXPLOSIVE:
+				handleExplosive(message.explosive);
+				break;
+			case Protocol.CARE_PACKAGE:
+				handleCarePackage(message.carePackage);
+				break;
+			case Protocol.INPUT:
+				handleInput(message.inputs, message.inputCount, message.source);
+				break;
+			case Protocol.PLAYER_DELTA:
+				requestKeyframe(message.player.ID, message.player.sequence, message.source);
+				break;
+			case Protocol.KEYFRAME_REQUEST:
+				handleKeyframeRequest(message.player.ID, message.source);
+				break;
+			case Protocol.MAP_REQUEST:
+				handleMapRequest(message.source);
+				break;
+			case Protocol.MAP:
+				handleMap(message.map);
+				break;
+		}
+	}
+
+	/**
+	 * Asks the dedicated server for its map layout (Client only, over and over until it arrives)
+	 */
+	private void requestMap() {
+		try {
+			Protocol.writeHeader(sendBuffer, Protocol.MAP_REQUEST);
+			send(sendBuffer);
+		} catch (IOException ex) {
+			ex.printStackTrace();
+		}
+	}
+
+	/**
+	 * Sends the map layout to a client that has asked for it (Server only)
+	 * <p>Only the fences still standing are sent (See openPath)</p>
+	 *
+	 * @param source Client's address
+	 */
+	private void handleMapRequest(SocketAddress source) {
+		if (role != Role.SERVER || transport == null || source == null)
+			return;
+
+		try {
+			sentMap.write(sendBuffer);
+			sendBuffer.flip();
+			transport.send(sendBuffer, source);
+		} catch (IOException ex) {
+			ex.printStackTrace();
+		}
+	}
+
+	/**
+	 * Lays the map out again as the dedicated server has (Client only, once)
+	 * <p>Otherwise each client would roll fences of its own & center the map on its own screen, and predict its tank
+	 * against walls the server doesn't have</p>
+	 *
+	 * @param map Server's map layout
+	 */
+	private synchronized void handleMap(MapState map) {
+		if (role != Role.CLIENT || hasMap)
+			return;
+		if (map.rows != pathMap.length || map.columns != pathMap[0].length) {
+			System.out.println("\033[1;31mThe server plays another map (" + map.rows + "x" + map.columns + ")\033[0m");
+			return;
+		}
+
+		tiles.clear();
+		obstacles.clear();
+		int[][] cells;
+		synchronized (ObstacleGenerator.class) {
+			obstacles.addAll(generateObstacles(tiles, mapFilePath, new Point(map.originX, map.originY), map.fences));
+			obstacleGrid = ObstacleGenerator.grid;
+			mapOrigin = ObstacleGenerator.origin;
+			cells = ObstacleGenerator.getMap();
+		}
+
+		// Plan the paths around the server's fences
+		for (int i = 0; i < cells.length; i++)
+			System.arraycopy(cells[i], 0, pathMap[i], 0, cells[i].length);
+		for (Obstacle obstacle : obstacles)
+			if (obstacle instanceof Fence && ((Fence) obstacle).getMapRow() >= 0)
+				pathMap[((Fence) obstacle).getMapRow()][((Fence) obstacle).getMapColumn()] = 1;
+		if (pathCache != null) {
+			pathfinding.setMap(pathMap);
+			pathCache.clear();
+		}
+
+		hasMap = true;
+	}
+
+	/**
+	 * Asks the sender of a delta for the keyframe it's made against (ie. the keyframe has been lost)
+	 * <p>Otherwise the player would freeze until the next keyframe. A keyframe is requested once every few ticks at most,
+	 * the deltas keep coming while the answer is on the way</p>
+	 *
+	 * @param ID       Numeric player ID
+	 * @param sequence Sequence number of the missing keyframe
+	 * @param source   Sender of the delta
+	 */
+	private void requestKeyframe(long ID, short sequence, SocketAddress source) {
+		if (transport == null || source == null || ID == 0)
+			return;
+
+		int[] request = keyframeRequests.get(ID);
+		if (request != null && request[0] == sequence && tickCount - request[1] < Protocol.KEYFRAME_REQUEST_INTERVAL)
+			return;
+		if (request == null) {
+			request = new int[2];
+			keyframeRequests.put(ID, request);
+		}
+		request[0] = sequence;
+		request[1] = tickCount;
+
+		try {
+			Protocol.writeHeader(sendBuffer, Protocol.KEYFRAME_REQUEST);
+			sendBuffer.putLong(ID);
+			sendBuffer.putShort(sequence);
+			sendBuffer.flip();
+			transport.send(sendBuffer, source);
+		} catch (IOException ex) {
+			ex.printStackTrace();
+		}
+	}
+
+	/**
+	 * Sends the current keyframe of a player to whoever has asked for it (Only if self sends that player)
+	 *
+	 * @param ID     Numeric player ID
+	 * @param source Requester's address
+	 */
+	private void handleKeyframeRequest(long ID, SocketAddress source) {
+		Player player = playerIndex.get(ID);
+		PlayerState keyframe = player != null ? sentKeyframes.get(player) : null;
+		if (keyframe == null || keyframe.ID != ID || transport == null || source == null)
+			return;
+
+		try {
+			keyframe.write(keyframeBuffer);
+			keyframeBuffer.flip();
+			transport.send(keyframeBuffer, source);
+		} catch (IOException ex) {
+			ex.printStackTrace();
+		}
+	}
+
+	/**
+	 * Handles a client's inputs (Server only)
+	 * <p>Clients are spawned as their first input arrives. Inputs that have been received before are ignored, the new
+	 * ones wait for their tick (See nextInput)</p>
+	 *
+	 * @param received Received inputs (Oldest first)
+	 * @param count    Number of received inputs
+	 * @param source   Client's address
+	 */
+	private void handleInput(InputState[] received, int count, SocketAddress source) {
+		if (count == 0)
+			return;
+
+		long ID = received[0].ID;
+		Player player = playerIndex.get(ID);
+		if (player != null && player.isAI)
+			return;     // Not a client's ID
+
+		// Spawn the player that has joined the server
+		if (player == null) {
+			if (availableTanks.isEmpty() || ID == 0)
+				return;     // No tanks left (The server is full), or no ID
+
+			spawnPlayer("Player " + (players.size() + 1), false, ID, false);
+			player = players.get(players.size() - 1);
+		}
+
+		// Remember where the client is. Clients sharing an address (ie. on the same host & port) can't be told apart
+		// by it, so everyone gets everything through the group then
+		SocketAddress previous = clientAddresses.put(player, source);
+		if (previous == null)
+			clients.add(player);
+		if (source != null && !source.equals(previous))
+			unicastStates = new HashSet<>(clientAddresses.values()).size() == clientAddresses.size() && !clientAddresses.containsValue(null);
+
+		InputBuffer pending = pendingInputs.get(player);
+		if (pending == null) {
+			pendingInputs.put(player, pending = new InputBuffer(8));
+			inputs.put(player, new InputState());
+		}
+
+		int newest = pending.size() > 0 ? pending.getLast().sequence : inputs.get(player).sequence;
+		for (int i = 0; i < count; i++)
+			if (received[i].sequence - newest > 0) {
+				pending.append().copyFrom(received[i]);
+				newest = received[i].sequence;
+			}
+	}
+
+	/**
+	 * Handles a care package update
+	 *
+	 * @param state Care package info
+	 */
+	private void handleCarePackage(CarePackageState state) {
+
+		// Check for duplicates (ie. the echo of a sent package)
+		if (carePackageIndex.get(state.ID) != null)
+			return;
+
+		CarePackage carePackage = carePackageGenerator.spawnPerk(state.x, state.y, Protocol.nameOf(Protocol.CARE_PACKAGE_NAMES, state.type), carePackages);
+		if (carePackage != null) {
+			carePackage.setCarePackageID(state.ID);     // Keep the sender's ID, so it's recognized from now on
+			carePackage.isTransferred = true;
+			carePackageIndex.put(state.ID, carePackage);
+		}
+	}
+
+	/**
+	 * Handles an explosive update
+	 *
+	 * @param state explosive info
+	 */
+	private void handleExplosive(ExplosiveState state) {
+
+		// Check for duplicates (ie. the echo of a sent explosive)
+		if (explosiveIndex.get(state.ID) != null)
+			return;
+
+		Color color = null;
+		switch (Protocol.nameOf(Protocol.COLOR_NAMES, state.color)) {
+			case "sand":
+				color = new Color(255, 253, 208);
+				break;
+			case "black":
+				color = Color.BLACK;
+				break;
+			case "blue":
+				color = Color.BLUE;
+				break;
+			case "red":
+				color = Color.RED;
+				break;
+			case "green":
+				color = Color.GREEN;
+				break;
+		}
+
+		Explosive explosive;
+		if (Protocol.nameOf(Protocol.EXPLOSIVE_NAMES, state.type).equals("bomb"))
+			explosive = new Bomb(state.x, state.y, state.rotation, state.thrust, state.damage, state.scale, state.width, state.height, color);
+		else
+			explosive = new Missile(state.x, state.y, state.rotation, state.thrust, state.damage, state.scale, state.width, state.height, color);
+
+		explosive.setExplosiveID(state.ID);     // Keep the sender's ID, so it's recognized from now on
+		explosive.isTransferred = true;
+		addExplosive(explosive);
+	}
+
+	/**
+	 * Handles a player update
+	 *
+	 * @param state Player info
+	 */
+	private void handlePlayer(PlayerState state) {
+		// Don't receive itself (Unless the server says where it is)
+		if (role == Role.CLIENT || players.get(0).getPlayerID() != state.ID) {
+			Player player = playerIndex.get(state.ID);
+			if (player != null) {
+				applyPlayer(player, state);
+				if (player.isME)
+					reconcile(player, state.inputSequence);
+				else
+					addSnapshot(player, state);
+			}
+
+			// Create the fucking player that has joined the fucking server
+			else if (state.ID != 0) {
+				spawnPlayer("Bardia", false, state.ID, false);
+				applyPlayer(players.get(players.size() - 1), state);
+				addSnapshot(players.get(players.size() - 1), state);
+			}
+		}
+	}
+
+	/**
+	 * Getter
+	 *
+	 * @return Inbox (Its metrics tell how far the game loop falls behind the network)
+	 */
+	public InboundQueue getInbox() {
+		return inbox;
+	}
+
+	/**
+	 * Ends the game & closes the transport (The reader thread stops right away)
+	 */
+	public void close() {
+		gameOver = true;
+		if (transport != null)
+			transport.close();
+
+		synchronized (this) {
+			if (pathfinding != null)
+				pathfinding.shutdown();
+		}
+	}
+
+	/**
+	 * Returns the path cache, starting the pathfinding workers on first use
+	 * <p>Paths are planned on the cells of the map file (See ObstacleGenerator.map), around the standing fences</p>
+	 *
+	 * @return Path cache
+	 */
+	public synchronized PathCache getPathCache() {
+		if (pathCache == null) {
+			pathfinding = new PathfindingService(pathMap);
+			pathCache = new PathCache(pathfinding, pathCacheCapacity);
+		}
+		return pathCache;
+	}
+
+	/**
+	 * Opens the way through a destroyed fence & drops the cached paths it affects
+	 *
+	 * @param fence Destroyed fence
+	 */
+	private synchronized void openPath(Fence fence) {
+		int row = fence.getMapRow(), column = fence.getMapColumn();
+		if (row < 0 || pathMap[row][column] == 0)
+			return;
+
+		pathMap[row][column] = 0;
+		if (sentMap.fences != null)
+			sentMap.fences[row][column] = false;
+		if (pathCache != null) {
+			pathfinding.setMap(pathMap);
+			pathCache.invalidate(row, column);
+		}
+	}
+
+	/**
+	 * Copies the replicated state of the player & its tank
+	 *
+	 * @param player Player obj
+	 * @param state  State to fill
+	 */
+	private void capturePlayer(Player player, PlayerState state) {
+		Tank tank = player.getTank();
+
+		state.ID = player.getPlayerID();
+		state.tick = tickCount;
+		state.deathCount = player.getDeathCount();
+		state.killCount = player.getKillCount();
+		state.isDead = player.isDead;
+		state.exploded = player.exploded;
+		state.isAI = player.isAI();
+		state.x = tank.getX();
+		state.y = tank.getY();
+		state.rotation = tank.getRotation();
+		state.thrust = tank.getThrust();
+		state.health = tank.getHealth();
+		state.explosive = Protocol.indexOf(Protocol.EXPLOSIVE_NAMES, tank.explosiveName);
+		state.firePowerCoefficient = tank.firePowerCoefficient;
+		state.explosiveSpeedCoefficient = tank.explosiveSpeedCoefficient;
+		state.activateBuff = tank.activateBuff;
+		state.shield = tank.shield;
+		state.ghost = tank.ghost;
+		state.tank = Protocol.indexOf(Protocol.TANK_NAMES, tank.getTankName());
+		state.teamID = (int) Protocol.parseID(player.getTeamID());
+		state.setName(player.getName());
+
+		InputState input = role == Role.SERVER ? inputs.get(player) : null;
+		state.inputSequence = input != null ? input.sequence : 0;
+	}
+
+	/**
+	 * Applies the received state to the player & its tank
+	 * <p>Names are only replaced once they change, so nothing is allocated per message</p>
+	 *
+	 * @param player Player obj
+	 * @param state  Received state
+	 */
+	private void applyPlayer(Player player, PlayerState state) {
+		Tank tank = player.getTank();
+
+		if (!state.getName().equals(player.getName()))
+			player.setName(state.getName());
+		if (Protocol.parseID(player.getTeamID()) != state.teamID)
+			player.setTeamID(String.format("%02d", state.teamID));
+		player.isAI = state.isAI;
+		player.setDeathCount(state.deathCount);                                 // Set death count
+		player.setKillCount(state.killCount);                                   // Set kill count
+		player.isDead = state.isDead;                                           // Set isDead status
+		player.exploded = state.exploded;                                       // Set exploded status
+
+		String tankName = Protocol.nameOf(Protocol.TANK_NAMES, state.tank);
+		if (!tankName.equals(tank.getTankName()))
+			tank.setTankName(tankName);
+		String explosiveName = Protocol.nameOf(Protocol.EXPLOSIVE_NAMES, state.explosive);
+		if (!explosiveName.equals(tank.getExplosiveName()))
+			tank.setExplosiveName(explosiveName);
+
+		tank.setX(state.x);
+		tank.setY(state.y);
+		tank.setRotation(Protocol.unwrapAngle(state.rotation, tank.getRotation()));   // Set tank's rotation
+		tank.setThrust(state.thrust);                                           // Set tank's thrust
+		tank.setHealth(state.health);                                           // Set tank's health
+		tank.setFirePowerCoefficient(state.firePowerCoefficient);               // Set tank's fire power coefficient
+		tank.setExplosiveSpeedCoefficient(state.explosiveSpeedCoefficient);     // Set tank's explosive speed coefficient
+		tank.setActivateBuff(state.activateBuff);                               // Set tank's active buff status
+		tank.setShield(state.shield);                                           // Set tank's shield status
+		tank.setGhost(state.ghost);                                             // Set tank's ghost status
+	}
+
+	/**
+	 * Adds the received transform to the snapshots of a remote player
+	 *
+	 * @param player Player obj
+	 * @param state  Received state
+	 */
+	private void addSnapshot(Player player, PlayerState state) {
+		SnapshotBuffer snapshot = snapshots.get(player);
+		if (snapshot == null)
+			snapshots.put(player, snapshot = new SnapshotBuffer(32, interpolationDelay, maxExtrapolation));
+
+		snapshot.add(state.tick * tickLength, state.x, state.y, state.rotation);
+	}
+
+	/**
+	 * Setter
+	 *
+	 * @param interpolationDelay Playback delay of the remote players (Seconds, should cover a couple of state intervals plus the jitter)
+	 */
+	public void setInterpolationDelay(double interpolationDelay) {
+		this.interpolationDelay = interpolationDelay;
+		for (SnapshotBuffer snapshot : snapshots.values())
+			snapshot.setDelay(interpolationDelay);
+	}
+
+	/**
+	 * Returns the name of an explosive's color
+	 *
+	 * @param color Color
+	 * @return Color name
+	 */
+	private String getColorName(Color color) {
+		if (Color.RED.equals(color))
+			return "red";
+		else if (Color.BLUE.equals(color))
+			return "blue";
+		else if (Color.BLACK.equals(color))
+			return "black";
+		else if (Color.GREEN.equals(color))
+			return "green";
+		else
+			return "sand";
+	}
+
+	/**
+	 * Looks up the obstacles around the given bounds
+	 * <p>Note that the returned list is reused by the next query</p>
+	 *
+	 * @param bounds Collision bounds
+	 * @return Nearby obstacles
+	 */
+	private List<Obstacle> queryObstacles(Rectangle bounds) {
+		return obstacleGrid.query(bounds.x, bounds.y, bounds.width, bounds.height, nearbyObstacles);
+	}
+
+	/**
+	 * Looks up the alive tanks around the given bounds
+	 * <p>Note that the returned list is reused by the next query</p>
+	 *
+	 * @param bounds Collision bounds
+	 * @return Nearby players
+	 */
+	private List<Player> queryTanks(Rectangle bounds) {
+		return tankHash.query(bounds.x, bounds.y, bounds.width, bounds.height, nearbyPlayers);
+	}
+
+	/**
+	 * Looks up the unused care packages around the given bounds
+	 * <p>Note that the returned list is reused by the next query</p>
+	 *
+	 * @param bounds Collision bounds
+	 * @return Nearby care packages
+	 */
+	private List<CarePackage> queryCarePackages(Rectangle bounds) {
+		return carePackageHash.query(bounds.x, bounds.y, bounds.width, bounds.height, nearbyCarePackages);
+	}
+
 	/**
 	 * Determines march mode
 	 *
@@ -458,11 +1483,7 @@ public class GameManager {
 				players.get(i).exploded = true;
 				players.get(i).getTank().setRotation(-Math.PI / 2);
 
-				try {
-					players.get(i).getTank().setIcon(ImageIO.read(new File(TextureReference.getPath("rip"))));
-				} catch (Exception exception) {
-					exception.printStackTrace();
-				}
+				players.get(i).getTank().setIconName("rip");
 				//players.remove(i);
 			}
 		}
@@ -477,6 +1498,7 @@ public class GameManager {
 
 				// Remove the explosive
 				iteratorExplosive.remove();
+				explosiveIndex.remove(explosive.getExplosiveID());
 
 				// Add an explosion
 				if (explosive instanceof Bomb)
@@ -488,12 +1510,21 @@ public class GameManager {
 		}
 
 		// Removed the destroyed obstacles (ie. fences)
+		for (Obstacle obstacle : obstacles)
+			if (obstacle.isDestroyed()) {
+				obstacleGrid.remove(obstacle);
+				if (obstacle instanceof Fence)
+					openPath((Fence) obstacle);
+			}
 		obstacles.removeIf(Obstacle::isDestroyed);
 
 		// Removes the vanished explosions
 		explosions.removeIf(Explosion::isVanished);
 
 		// removes care-packages
+		for (CarePackage carePackage : carePackages)
+			if (carePackage.isRemove())
+				carePackageIndex.remove(carePackage.getCarePackageID());
 		carePackages.removeIf(CarePackage::isRemove);
 
 		// Remove air supports
@@ -504,39 +1535,53 @@ public class GameManager {
 	 * Spawns the players around the map in a way their paths are linked
 	 */
 	private void spawnPlayer() {
+		spawnPlayer("Bardia", false, IDAllocator.next(), true);
+	}
+
+	/**
+	 * Spawns a player on a random tile, away from the other tanks
+	 * <p>If no tile is far enough from the other tanks after a number of attempts, the last picked tile is used</p>
+	 *
+	 * @param name     Player's name
+	 * @param isAI     AI indicator
+	 * @param playerID Player's ID
+	 * @param isME     Self indicator
+	 */
+	private void spawnPlayer(String name, boolean isAI, long playerID, boolean isME) {
 		try {
 			// Get a random tank name
 			int randomTankIndex = random.nextInt(availableTanks.size()), rand;
 
+			Tile tile;
+			int x, y, attempts = 0;
+			boolean isOK;
 			do {
-				rand = random.nextInt(tiles.size());
-			} while (tiles.get(rand).getDir() <= 0);
+				do {
+					rand = random.nextInt(tiles.size());
+				} while (tiles.get(rand).getDir() <= 0);
 
-			Tile tile = tiles.get(rand);
-			int x = tile.getX() + 33;
-			int y = tile.getY() + 33;
+				tile = tiles.get(rand);
+				x = tile.getX() + 33;
+				y = tile.getY() + 33;
 
-			while (true) {
-				boolean isOK = true;
+				// If tank has a casual distance from all other tanks
+				isOK = true;
 				for (Player player : players)
 					if (getDistance(x, y, player.getTank().getX(), player.getTank().getY()) < spawnDistance)
 						isOK = false;
+			} while (!isOK && ++attempts < spawnAttempts);
 
-				// If tank has a casual distance from all other tanks
-				if (isOK) {
-					Player player = new Player("Bardia", availableTanks.get(randomTankIndex), x, y, "01", "bomb", false, "@player" + System.currentTimeMillis(), true);
+			Player player = new Player(name, availableTanks.get(randomTankIndex), x, y, "01", "bomb", isAI, playerID, isME);
 
-					players.add(player);                // Add the player to the list of players
-					setTankDirection(tile, player);        // Sets the direction of the tank on startup
+			players.add(player);                // Add the player to the list of players
+			playerIndex.put(playerID, player);
+			setTankDirection(tile, player);        // Sets the direction of the tank on startup
 
-					// Remove the added tank
-					availableTanks.remove(randomTankIndex);
+			// Remove the added tank
+			availableTanks.remove(randomTankIndex);
 
-					// Remove the spawn point tile
-					tiles.remove(tile);
-					break;
-				}
-			}
+			// Remove the spawn point tile
+			tiles.remove(tile);
 		} catch (Exception ex) {
 			ex.printStackTrace();
 		}
@@ -596,6 +1641,15 @@ public class GameManager {
 		return players;
 	}
 
+	/**
+	 * Getter
+	 *
+	 * @return Top-left corner of the map
+	 */
+	public Point getMapOrigin() {
+		return mapOrigin;
+	}
+
 	/**
 	 * Getter
 	 *
@@ -641,6 +1695,15 @@ public class GameManager {
 		return airSupports;
 	}
 
+	/**
+	 * Getter
+	 *
+	 * @return Headless indicator
+	 */
+	public boolean isHeadless() {
+		return headless;
+	}
+
 	/**
 	 * Getter
 	 *
@@ -703,22 +1766,20 @@ public class GameManager {
 	 * This inner-class listens for new shared info and updates 'em
 	 */
 	class ReadThread implements Runnable {
-		private MulticastSocket socket;                    // Socket
-		private InetAddress group;                        // Group InetAddress
-		private int port;                                // port number
-		private static final int MAX_LEN = 1000;        // Max transfer length
+		private final Transport transport;                                           // Transport obj
+		private final ByteBuffer message = ByteBuffer.allocateDirect(Protocol.MAX_PACKET_SIZE);    // Reused receive buffer
+		private final long receiveTimeout = 250;                                     // Longest wait for a datagram before the game over indicator is checked again (Milliseconds)
+		private final PlayerState playerState = new PlayerState();                   // Reused decoded player state
+		private final IDIndex<PlayerState> keyframes = new IDIndex<>(16);           // Last received keyframe of each player (By ID)
+		private SocketAddress source;                                                // Sender of the message being decoded
 
 		/**
 		 * Object Constructor
 		 *
-		 * @param socket Socket obj
-		 * @param group  Group InetAddress
-		 * @param port   Port number
+		 * @param transport Transport obj
 		 */
-		public ReadThread(MulticastSocket socket, InetAddress group, int port) {
-			this.socket = socket;
-			this.group = group;
-			this.port = port;
+		public ReadThread(Transport transport) {
+			this.transport = transport;
 		}
 
 		/**
@@ -726,171 +1787,181 @@ public class GameManager {
 		 */
 		@Override
 		public void run() {
-			while (!gameOver) {
-				byte[] buffer = new byte[ReadThread.MAX_LEN];
-				DatagramPacket datagram = new DatagramPacket(buffer, buffer.length, group, port);
+			while (!gameOver && transport.isOpen()) {
 				try {
-					socket.receive(datagram);
-					try {
-						String[] info = new String(datagram.getData()).split(",");
-
-						// Clean up the received string (Remove the redundant bytes)
-						for (int i = 0; i < info.length; i++)
-							info[i] = info[i].replaceAll("\u0000.*", "");
-
-						if (info[0].contains("@player"))    // Player info
-							handlePlayer(info);
-						else if (info[0].contains("@bomb") || info[1].contains("@missile"))        // Explosive info
-							handleExplosive(info);
-						else if (info[0].equals("carePackage"))
-							handleCarePackage(info);
-
-					} catch (Exception ex) {
-						ex.printStackTrace();
+					source = transport.receive(message, receiveTimeout);
+					if (source == null)
+						continue;   // Nothing arrived (Or the transport has been closed)
+
+					// A batch carries several messages, each prefixed with its length (See OutboundBatcher)
+					if (Protocol.readHeader(message) != Protocol.BATCH) {
+						message.rewind();
+						process(message);
+						continue;
+					}
+
+					int end = message.limit();
+					while (message.remaining() >= Protocol.BATCH_LENGTH_SIZE) {
+						int length = message.getShort() & 0xFFFF, next = message.position() + length;
+						if (next > end)
+							break;  // Truncated
+
+						message.limit(next);
+						process(message);
+						message.limit(end);
+						message.position(next);
 					}
 				} catch (IOException e) {
-					System.out.println("Socket closed!");
+					if (transport.isOpen())
+						e.printStackTrace();
 				}
 			}
 		}
 
 		/**
-		 * Handles a care package update
+		 * Decodes a message & passes it on (Acks & events to the event channel, the rest to the game loop)
 		 *
-		 * @param info Care package info
+		 * @param message Message (From its position up to its limit)
 		 */
-		private void handleCarePackage(String[] info) {
-
-			boolean exist = false;
-			for (CarePackage carePackage : carePackages)
-				if (carePackage.getCarePackageID().equals(info[4])) {
-					exist = true;
-					break;
+		private void process(ByteBuffer message) {
+			boolean isEvent = false, delivered = true;
+			try {
+				// Acks are for the event channel, events are unwrapped (Duplicates & own events are dropped)
+				byte type = Protocol.readHeader(message);
+				if (type == Protocol.ACK) {
+					events.acknowledge(message);
+					return;
 				}
+				if (type == Protocol.EVENT) {
+					if (!events.receive(message))
+						return;
+					isEvent = true;
+					type = Protocol.readHeader(message);
+				}
+
+				// The server only takes inputs & map requests, everyone else takes the rest (Anyone may be asked for a keyframe)
+				boolean isForServer = type == Protocol.INPUT || type == Protocol.MAP_REQUEST;
+				if (type != Protocol.KEYFRAME_REQUEST && isForServer != (role == Role.SERVER))
+					return;
 
-			if (!exist) {
-				int x = Integer.parseInt(info[2]);
-				int y = Integer.parseInt(info[3]);
+				switch (type) {
+					case Protocol.PLAYER: {         // Player info (Keyframe)
+						playerState.read(message);
+						PlayerState keyframe = getKeyframe(playerState.ID);
+						if ((short) (playerState.sequence - keyframe.sequence) <= 0)
+							break;  // Not newer than the one at hand (ie. a requested keyframe arriving late)
 
-				switch (info[1]) {
-					case "ghost":
-						carePackageGenerator.spawnPerk(x, y, "ghost", carePackages);
+						keyframe.copyFrom(playerState);
+						delivered = offer(Protocol.PLAYER);
 						break;
-					case "health":
-						carePackageGenerator.spawnPerk(x, y, "health", carePackages);
+					}
+					case Protocol.PLAYER_DELTA: {   // Player info (Changes since the keyframe)
+						PlayerState keyframe = getKeyframe(PlayerState.peekID(message));
+						short baseline = PlayerState.peekBaseline(message);
+						if (playerState.readDelta(message, keyframe))
+							delivered = offer(Protocol.PLAYER);
+						else if ((short) (baseline - keyframe.sequence) > 0) {
+							// The keyframe it's made against has been missed, have the game loop ask for it
+							playerState.ID = keyframe.ID;
+							playerState.sequence = baseline;
+							delivered = offer(Protocol.PLAYER_DELTA);
+						}
 						break;
-					case "power":
-						carePackageGenerator.spawnPerk(x, y, "power", carePackages);
+					}
+					case Protocol.KEYFRAME_REQUEST: // Someone has missed a keyframe
+						playerState.ID = message.getLong();
+						playerState.sequence = message.getShort();
+						delivered = offer(Protocol.KEYFRAME_REQUEST);
 						break;
-					case "speed":
-						carePackageGenerator.spawnPerk(x, y, "speed", carePackages);
+					case Protocol.EXPLOSIVE:        // Explosive info
+						delivered = offer(Protocol.EXPLOSIVE);
 						break;
-					case "laser":
-						carePackageGenerator.spawnPerk(x, y, "laser", carePackages);
+					case Protocol.CARE_PACKAGE:     // Care package info
+						delivered = offer(Protocol.CARE_PACKAGE);
 						break;
-					case "shield":
-						carePackageGenerator.spawnPerk(x, y, "shield", carePackages);
+					case Protocol.INPUT:            // Client's input
+						delivered = offer(Protocol.INPUT);
+						break;
+					case Protocol.MAP_REQUEST:      // A client has joined
+						delivered = offer(Protocol.MAP_REQUEST);
+						break;
+					case Protocol.MAP:              // Server's map layout
+						delivered = offer(Protocol.MAP);
 						break;
 				}
+			} catch (Exception ex) {
+				ex.printStackTrace();
+			} finally {
+				// Acknowledge the event once the game loop has it (If the inbox was full, the sender sends it again)
+				if (isEvent && delivered)
+					events.accept();
 			}
 		}
 
 		/**
-		 * Handles an explosive update
+		 * Passes a message on to the game loop through the inbox
+		 * <p>Explosives & care packages are decoded straight into the inbox slot, players are copied from the decoded state</p>
 		 *
-		 * @param info explosive info
+		 * @param type Message type
+		 * @return False if the inbox is full & the message has been dropped
 		 */
-		private void handleExplosive(String[] info) {
-
-			Color color = null;
-			switch (info[9]) {
-				case "sand":
-					color = new Color(255, 253, 208);
-					break;
-				case "black":
-					color = Color.BLACK;
-					break;
-				case "blue":
-					color = Color.BLUE;
-					break;
-				case "red":
-					color = Color.RED;
-					break;
-				case "green":
-					color = Color.GREEN;
-					break;
-			}
-
-			Explosive explosive;
-			if (info[0].contains("@bomb"))
-				explosive = new Bomb(Integer.parseInt(info[1]), Integer.parseInt(info[2]), Double.parseDouble(info[3]), Integer.parseInt(info[8]), Integer.parseInt(info[7]), Double.parseDouble(info[6]), Integer.parseInt(info[4]), Integer.parseInt(info[5]), color);
-			else
-				explosive = new Missile(Integer.parseInt(info[1]), Integer.parseInt(info[2]), Double.parseDouble(info[3]), Integer.parseInt(info[8]), Integer.parseInt(info[7]), Double.parseDouble(info[6]), Integer.parseInt(info[4]), Integer.parseInt(info[5]), color);
-
-			// Check for duplicates
-			boolean exist = false;
-			for (Explosive tmp : explosives)
-				if (tmp.getExplosiveID().equals(info[0])) {
-					exist = true;
-					break;
-				}
+		private boolean offer(byte type) {
+			long position = inbox.claim();
+			if (position < 0)
+				return false;   // Inbox is full, drop the message (See InboundQueue)
 
-			if (!exist)
-				explosives.add(explosive);
-		}
-
-		/**
-		 * Handles a player update
-		 *
-		 * @param info Player info
-		 */
-		private void handlePlayer(String[] info) {
-			// Don't receive itself
-			if (!players.get(0).getPlayerID().equals(info[0])) {
-				boolean exist = false;
-				for (Player player : players)
-					if (!player.isME && player.getPlayerID().equals(info[0])) {
-						updatePlayer(player, info);
-						exist = true;
+			InboundMessage slot = inbox.get(position);
+			slot.type = -1;     // Published as a no-op if decoding fails
+			try {
+				switch (type) {
+					case Protocol.PLAYER:
+						slot.player.copyFrom(playerState);
+						break;
+					case Protocol.EXPLOSIVE:
+						slot.explosive.read(message);
+						break;
+					case Protocol.CARE_PACKAGE:
+						slot.carePackage.read(message);
+						break;
+					case Protocol.INPUT:
+						slot.inputCount = InputBuffer.read(message, slot.inputs);
+						slot.source = source;
+						break;
+					case Protocol.PLAYER_DELTA:
+					case Protocol.KEYFRAME_REQUEST:
+						slot.player.ID = playerState.ID;
+						slot.player.sequence = playerState.sequence;
+						slot.source = source;
+						break;
+					case Protocol.MAP_REQUEST:
+						slot.source = source;
+						break;
+					case Protocol.MAP:
+						slot.map.read(message);
 						break;
-					}
-
-				// Create the fucking player that has joined the fucking server
-				if (!exist) {
-					spawnPlayer();
-					players.get(players.size() - 1).setPlayerID(info[0]);    // Set the player ID
-					players.get(players.size() - 1).isME = false;
-					updatePlayer(players.get(players.size() - 1), info);
 				}
+				slot.type = type;
+			} finally {
+				inbox.publish(position);
 			}
+			return true;
 		}
 
 		/**
-		 * Updates the received information about the player obj
+		 * Returns the last received keyframe of the player
 		 *
-		 * @param info Player data
+		 * @param ID Numeric player ID
+		 * @return Keyframe (Empty until the first keyframe of the player arrives)
 		 */
-		private void updatePlayer(Player player, String[] info) {
-			player.setName(info[16]);
-			player.getTank().setTankName(info[19]);
-			player.getTank().setX(Integer.parseInt(info[5]));
-			player.getTank().setY(Integer.parseInt(info[6]));
-			player.setTeamID(info[18]);
-			player.getTank().setExplosiveName(info[10]);
-			player.isAI = Boolean.parseBoolean(info[17]);
-			player.setPlayerID(info[0]);
-			player.setDeathCount(Integer.parseInt(info[1]));                            // Set death count
-			player.setKillCount(Integer.parseInt(info[2]));                                // Set kill count
-			player.isDead = Boolean.parseBoolean(info[3]);                                // Set isDead status
-			player.exploded = Boolean.parseBoolean(info[4]);                            // Set exploded status
-			player.getTank().setRotation(Double.parseDouble(info[7]));                    // Set tank's rotation
-			player.getTank().setThrust(Integer.parseInt(info[8]));                        // Set tank's thrust
-			player.getTank().setHealth(Integer.parseInt(info[9]));                        // Set tank's health
-			player.getTank().setFirePowerCoefficient(Integer.parseInt(info[11]));        // Set tank's fire power coefficient
-			player.getTank().setExplosiveSpeedCoefficient(Integer.parseInt(info[12]));    // Set tank's explosive speed coefficient
-			player.getTank().setActivateBuff(Boolean.parseBoolean(info[13]));            // Set tank's active buff status
-			player.getTank().setShield(Boolean.parseBoolean(info[14]));                    // Set tank's shield status
-			player.getTank().setGhost(Boolean.parseBoolean(info[15]));                    // Set tank's ghost status
+		private PlayerState getKeyframe(long ID) {
+			PlayerState keyframe = keyframes.get(ID);
+			if (keyframe == null) {
+				keyframe = new PlayerState();
+				keyframe.ID = ID;
+				keyframe.sequence = -1;
+				keyframes.put(ID, keyframe);
+			}
+			return keyframe;
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.company;
+
+/**
+ * Imports
+ */
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HeadlessSimulation class
+ * <p>This class batch-simulates AI-only matches without a display, textures or socket (ie. for balancing & load
+ * tests on a server). Each match is ticked as fast as the CPU allows until at most one tank is left, or the tick
+ * limit is reached. Matches run side by side, one per thread (Each game keeps its own map)</p>
+ *
+ * <p>Usage: HeadlessSimulation [matches] [AI count] [map file] [max ticks] [threads]</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class HeadlessSimulation {
+
+	/**
+	 * Objects, Variables, Components, ...
+	 */
+	private final String mapFilePath;        // map of the game path
+	private final int AICount;               // AI players count of each match
+	private final int maxTicks;              // Matches are stopped after the given number of ticks
+	private final AtomicLong totalTicks;     // Number of ticks simulated so far (By all threads)
+
+	/**
+	 * Object Constructor
+	 *
+	 * @param AICount     AI players count of each match
+	 * @param mapFilePath map of the game path
+	 * @param maxTicks    Maximum number of ticks of each match
+	 */
+	public HeadlessSimulation(int AICount, String mapFilePath, int maxTicks) {
+		this.AICount = AICount;
+		this.mapFilePath = mapFilePath;
+		this.maxTicks = maxTicks;
+		this.totalTicks = new AtomicLong();
+	}
+
+	/**
+	 * Simulates a single match
+	 *
+	 * @return Number of ticks the match lasted
+	 * @throws Exception handled Err
+	 */
+	public int runMatch() throws Exception {
+		GameManager manager = new GameManager(AICount, mapFilePath);
+		double dt = 1.0 / GameLoop.TICK_RATE;
+
+		int ticks = 0;
+		while (ticks < maxTicks && getAliveCount(manager) > 1) {
+			manager.update(dt);
+			ticks++;
+		}
+
+		totalTicks.addAndGet(ticks);
+		return ticks;
+	}
+
+	/**
+	 * Counts the players that are still alive
+	 *
+	 * @param manager GameManager object
+	 * @return Alive players count
+	 */
+	private int getAliveCount(GameManager manager) {
+		int count = 0;
+		for (Player player : manager.getPlayers())
+			if (!player.isDead)
+				count++;
+		return count;
+	}
+
+	/**
+	 * Getter
+	 *
+	 * @return Number of ticks simulated so far
+	 */
+	public long getTotalTicks() {
+		return totalTicks.get();
+	}
+
+	/**
+	 * Driver method
+	 *
+	 * @param args Args
+	 */
+	public static void main(String[] args) {
+		System.setProperty("java.awt.headless", "true");
+
+		int matches = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		int AICount = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+		String mapFilePath = args.length > 2 ? args[2] : "map.txt";
+		int maxTicks = args.length > 3 ? Integer.parseInt(args[3]) : GameLoop.TICK_RATE * 60 * 5;
+		int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+		HeadlessSimulation simulation = new HeadlessSimulation(AICount, mapFilePath, maxTicks);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		long start = System.nanoTime();
+		int finished = 0;
+
+		try {
+			List<Callable<Integer>> tasks = new ArrayList<>();
+			for (int i = 0; i < matches; i++)
+				tasks.add(simulation::runMatch);
+			for (Future<Integer> ticks : executor.invokeAll(tasks))
+				if (ticks.get() < maxTicks)
+					finished++;
+		} catch (Exception ex) {
+			ex.printStackTrace();
+		} finally {
+			executor.shutdown();
+		}
+
+		double elapsed = (System.nanoTime() - start) / 1e9;
+		System.out.println("Simulated " + matches + " matches (" + finished + " finished before the tick limit) in " + String.format("%.2f", elapsed) + " s.");
+		System.out.println(simulation.getTotalTicks() + " ticks, " + (long) (simulation.getTotalTicks() / elapsed) + " ticks/s.");
+	}
+}
\ No newline at end of file
@@ -6,6 +6,11 @@ package com.company;
 import java.awt.EventQueue;
 import javax.swing.JFrame;
 
+/**
+ * Packages
+ */
+import com.company.Network.DatagramTransport;
+
 /**
  * Driver class
  */
@@ -26,9 +31,23 @@ public class Main {
 		// Initialize the global thread-pool
 		ThreadPool.init();
 
+		// Decode all textures in parallel while the frame is being created
+		AssetPreloader preloader = new AssetPreloader();
+		preloader.start();
+
 		frame = new GameFrame("Tank Trouble");
+
+		// Wait for the textures (Note: must be done before the game manager renders the map & spawns the tanks)
+		preloader.await();
+		for (String texture : preloader.getFailures().keySet())
+			System.out.println("\033[1;31mTexture '" + texture + "' could not be loaded.\033[0m");
+
 		try {
-			manager = new GameManager(2, 0, "map.txt", "jungle", "239.1.2.3", 1234);
+			// Join a dedicated server (See DedicatedServer) with 'client', play peer to peer otherwise
+			if (args.length > 0 && args[0].equals("client"))
+				manager = new GameManager(GameManager.Role.CLIENT, 0, "map.txt", "jungle", new DatagramTransport("239.1.2.3", 1234, 1), null);
+			else
+				manager = new GameManager(2, 0, "map.txt", "jungle", "239.1.2.3", 1234);
 		} catch (Exception ex) {
 			ex.printStackTrace();
 		}
@@ -3,11 +3,12 @@ package com.company.MapGenerator;
 /**
  * Imports
  */
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.*;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
+import java.util.stream.IntStream;
 
 /**
  * Packages
@@ -27,58 +28,100 @@ public class BackgroundRenderer {
      * Variables, Objects, Components, ...
      */
     private static Random random = new Random();
+    private final static int bandHeight = 4;                // Number of tile rows drawn by each parallel band
+    private final static int parallelThreshold = 256;       // Minimum number of visible tiles to render in parallel
+
+    /**
+     * This hashmap relates each map type to its tile variants (A random variant is picked for each cell)
+     */
+    private final static Map<String, String[]> tileVariants = new HashMap<>() {
+        {
+            put("jungle", new String[]{"jungleTile01", "jungleTile02"});
+            put("city", new String[]{"cityTile"});
+            put("mud", new String[]{"mudTile"});
+            put("sand", new String[]{"sandTile"});
+        }
+    };
 
     /**
      * Renders the matrix into an image
+     * <p>Each distinct tile variant is resolved only once, so the rendering cost does not depend on the disk. Large
+     * maps are drawn in horizontal bands in parallel</p>
      */
     public static BufferedImage render(String mapType, int[][] map, int mapWidth, int mapHeight, int textureWidth, int textureHeight) {
 
-        int yCount = map.length;
-        int xCount = map[0].length;
+        // Only the cells inside the background are visible
+        int yCount = Math.min(map.length, (mapHeight + textureWidth - 1) / textureWidth);
+        int xCount = Math.min(map[0].length, (mapWidth + textureHeight - 1) / textureHeight);
 
-        BufferedImage[][] images = new BufferedImage[yCount][xCount];
+        // Resolve the tile variants of the map type
+        BufferedImage[] textures = getTextures(mapType);
 
-        // Get a matrix of tile images
+        // Pick a variant for each cell
+        int[][] variants = new int[yCount][xCount];
         for (int i = 0; i < yCount; i++)
             for (int j = 0; j < xCount; j++)
-                try {
-                    images[i][j] = getTexture(mapType);
-                } catch (Exception ex) {
-                    ex.printStackTrace();
-                }
+                variants[i][j] = textures.length > 1 ? random.nextInt(textures.length) : 0;
 
         // Create the background
         BufferedImage fullMap = new BufferedImage(mapWidth, mapHeight, BufferedImage.TYPE_INT_RGB);
-        Graphics2D g2d = fullMap.createGraphics();
+        if (textures.length == 0)
+            return fullMap;
 
-        // Draw the textures onto the background
-        for (int i = 0; i < yCount; i++)
-            for (int j = 0; j < xCount; j++)
-                g2d.drawImage(images[i][j], textureHeight * j, textureWidth * i, null);
+        // Draw the textures onto the background, band by band
+        int bandCount = (yCount + bandHeight - 1) / bandHeight;
+        IntStream bands = IntStream.range(0, bandCount);
+        if (yCount * xCount >= parallelThreshold)
+            bands = bands.parallel();
 
-        g2d.dispose();  // Dispose Graphics
+        bands.forEach(band -> renderBand(fullMap, textures, variants, band * bandHeight, Math.min(yCount, (band + 1) * bandHeight), textureWidth, textureHeight));
 
         // Return the created map
         return fullMap;
     }
 
     /**
-     * Returns the appropriate texture to use according to the map type
+     * Draws the given rows of tiles
+     * <p>Each band draws onto its own sub-image (Sharing the background's pixels), so bands never overlap</p>
+     *
+     * @param fullMap  Background image
+     * @param textures Tile variants
+     * @param variants Selected variant of each cell
+     * @param fromRow  First row (Inclusive)
+     * @param toRow    Last row (Exclusive)
+     */
+    private static void renderBand(BufferedImage fullMap, BufferedImage[] textures, int[][] variants, int fromRow, int toRow, int textureWidth, int textureHeight) {
+        int top = textureWidth * fromRow;
+        if (top >= fullMap.getHeight())
+            return;
+
+        int height = Math.min(fullMap.getHeight() - top, textureWidth * (toRow - fromRow));
+        Graphics2D g2d = fullMap.getSubimage(0, top, fullMap.getWidth(), height).createGraphics();
+
+        for (int i = fromRow; i < toRow; i++)
+            for (int j = 0; j < variants[i].length; j++)
+                g2d.drawImage(textures[variants[i][j]], textureHeight * j, textureWidth * (i - fromRow), null);
+
+        g2d.dispose();  // Dispose Graphics
+    }
+
+    /**
+     * Returns the tile variants to use according to the map type
      *
-     * @return BufferedImage of the selected texture
+     * @return Decoded tile variants (Empty if the map type is unknown or cannot be loaded)
      */
-    private static BufferedImage getTexture(String mapType) throws Exception {
-        switch (mapType) {
-            case "jungle":
-                return random.nextInt(2) == 1 ? ImageIO.read(new File(TextureReference.getPath("jungleTile01"))) : ImageIO.read(new File(TextureReference.getPath("jungleTile02")));
-            case "city":
-                return ImageIO.read(new File(TextureReference.getPath("cityTile")));
-            case "mud":
-                return ImageIO.read(new File(TextureReference.getPath("mudTile")));
-            case "sand":
-                return ImageIO.read(new File(TextureReference.getPath("sandTile")));
-            default:
-                return null;
+    private static BufferedImage[] getTextures(String mapType) {
+        String[] names = tileVariants.getOrDefault(mapType, new String[0]);
+        BufferedImage[] textures = new BufferedImage[names.length];
+
+        try {
+            for (int i = 0; i < names.length; i++)
+                textures[i] = TextureReference.getTexture(names[i]);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            return new BufferedImage[0];
         }
+
+        return textures;
     }
 }
\ No newline at end of file
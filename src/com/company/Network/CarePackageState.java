@@ -0,0 +1,49 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.nio.ByteBuffer;
+
+/**
+ * CarePackageState class
+ * <p>This class holds the replicated state of a spawned care package, and encodes it to (Or decodes it from) the
+ * fixed width wire format</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class CarePackageState {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    public long ID;                         // Numeric care package ID
+    public byte type;                       // Care package's type (Index into Protocol.CARE_PACKAGE_NAMES)
+    public int x, y;                        // Care package's coordinates
+
+    /**
+     * Encodes the state (Header included) into the buffer
+     *
+     * @param buffer Buffer
+     */
+    public void write(ByteBuffer buffer) {
+        Protocol.writeHeader(buffer, Protocol.CARE_PACKAGE);
+        buffer.putLong(ID);
+        buffer.put(type);
+        buffer.putShort((short) x);
+        buffer.putShort((short) y);
+    }
+
+    /**
+     * Decodes the state from the buffer (Positioned right after the header)
+     *
+     * @param buffer Buffer
+     */
+    public void read(ByteBuffer buffer) {
+        ID = buffer.getLong();
+        type = buffer.get();
+        x = buffer.getShort();
+        y = buffer.getShort();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,165 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.io.IOException;
+import java.net.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.MembershipKey;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Enumeration;
+
+/**
+ * DatagramTransport class
+ * <p>This class is the real network transport: a non-blocking UDP channel joined to a multicast group. Receiving waits
+ * on a selector, so a closing transport wakes its reader up at once instead of leaving it blocked in a socket</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class DatagramTransport implements Transport {
+
+    /**
+     * Objects, Variables, Components, ...
+     */
+    private final DatagramChannel channel;              // UDP channel
+    private final MembershipKey membership;             // Multicast group membership
+    private final Selector selector;                    // Read readiness selector
+    private final InetSocketAddress group;              // Group address
+    private volatile boolean open;                      // Open indicator
+
+    /**
+     * Object Constructor
+     *
+     * @param IP   Multicast group IP
+     * @param port Port
+     * @param TTL  Multicast time to live (0 keeps the datagrams on this host)
+     * @throws IOException If the channel could not be opened or joined to the group
+     */
+    public DatagramTransport(String IP, int port, int TTL) throws IOException {
+        InetAddress address = InetAddress.getByName(IP);
+        NetworkInterface networkInterface = getMulticastInterface();
+
+        this.group = new InetSocketAddress(address, port);
+        this.channel = DatagramChannel.open(address instanceof Inet6Address ? StandardProtocolFamily.INET6 : StandardProtocolFamily.INET);
+
+        try {
+            channel.setOption(StandardSocketOptions.SO_REUSEADDR, true);      // Several peers on the same host
+            channel.bind(new InetSocketAddress(port));
+            channel.setOption(StandardSocketOptions.IP_MULTICAST_IF, networkInterface);
+            channel.setOption(StandardSocketOptions.IP_MULTICAST_TTL, TTL);
+            channel.setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+            channel.configureBlocking(false);
+
+            this.membership = channel.join(address, networkInterface);
+            this.selector = Selector.open();
+            channel.register(selector, SelectionKey.OP_READ);
+        } catch (IOException ex) {
+            channel.close();
+            throw ex;
+        }
+
+        this.open = true;
+    }
+
+    /**
+     * Sends a datagram
+     *
+     * @param message Message (From its position up to its limit)
+     * @param target  Receiver's address (Null to send to the whole group)
+     * @throws IOException If the datagram could not be sent
+     */
+    @Override
+    public void send(ByteBuffer message, SocketAddress target) throws IOException {
+        channel.send(message, target != null ? target : group);
+    }
+
+    /**
+     * Waits for a datagram
+     *
+     * @param buffer  Buffer to receive into
+     * @param timeout Maximum wait (Milliseconds)
+     * @return Sender's address (Null if nothing arrived in time, or the transport has been closed)
+     * @throws IOException If the transport failed
+     */
+    @Override
+    public SocketAddress receive(ByteBuffer buffer, long timeout) throws IOException {
+        if (!open)
+            return null;
+
+        try {
+            // Take what has already arrived, wait otherwise
+            buffer.clear();
+            SocketAddress source = channel.receive(buffer);
+            if (source == null && selector.select(timeout) > 0) {
+                selector.selectedKeys().clear();
+                source = channel.receive(buffer);
+            }
+
+            buffer.flip();
+            return source;
+        } catch (ClosedSelectorException | ClosedChannelException ex) {
+            return null;    // Closed while waiting
+        }
+    }
+
+    /**
+     * Indicates whether the transport is open or not
+     *
+     * @return Open status
+     */
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Leaves the group & releases the channel
+     */
+    @Override
+    public void close() {
+        if (!open)
+            return;
+
+        open = false;
+        selector.wakeup();
+        try {
+            membership.drop();
+            channel.close();
+            selector.close();
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    /**
+     * Picks the network interface to join the group on (The first one that is up & supports multicast)
+     *
+     * @return Network interface (Loopback if there is nothing else)
+     * @throws IOException If the interfaces could not be listed
+     */
+    private static NetworkInterface getMulticastInterface() throws IOException {
+        NetworkInterface loopback = null;
+
+        Enumeration<NetworkInterface> interfaces = NetworkInterface.getNetworkInterfaces();
+        while (interfaces.hasMoreElements()) {
+            NetworkInterface networkInterface = interfaces.nextElement();
+            if (!networkInterface.isUp())
+                continue;
+
+            if (networkInterface.isLoopback())
+                loopback = networkInterface;
+            else if (networkInterface.supportsMulticast())
+                return networkInterface;
+        }
+
+        if (loopback == null)
+            throw new IOException("No network interface to join the group on!");
+        return loopback;
+    }
+}
\ No newline at end of file
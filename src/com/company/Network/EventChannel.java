@@ -0,0 +1,420 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * EventChannel class
+ * <p>This class delivers one-shot messages (ie. fired explosives & spawned care packages) reliably over the datagram
+ * transport. Each event is wrapped with the sender's peer ID (Random per channel) & a sequence number, and kept until
+ * every known peer has acknowledged it (Peers are only waited for on the events sent after they were first heard from,
+ * a late joiner doesn't get the old ones). Receivers acknowledge the newest event they have of each sender plus a bitfield
+ * of the events before it, so a lost event shows up as a hole and only that event is sent again</p>
+ *
+ * <p>States (ie. players) don't go through here, a newer state is always on the way. Events are applied as soon as they
+ * arrive and duplicates are dropped; the events don't depend on each other, so holding them back for ordering would
+ * only add latency</p>
+ *
+ * <p>The reader thread hands in the received events & acks, the game loop sends the events, the acks & the resends (See
+ * update). A received event is only acknowledged once the reader has handed it over (See accept), so an event the game
+ * loop never gets is sent again. Every method is synchronized, events are rare enough for the lock to cost nothing</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class EventChannel {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    private final Transport transport;                                  // Transport obj
+    private final ByteBuffer buffer;                                    // Reused outgoing buffer
+    private final int peerID;                                           // This peer's ID (Non-zero)
+    private final byte[][] events;                                      // Wrapped events in flight (Ring by sequence)
+    private final int[] lengths = new int[Protocol.EVENT_WINDOW];       // Length of each wrapped event
+    private final int[] sequences = new int[Protocol.EVENT_WINDOW];     // Sequence number of each event
+    private final int[] sendCounts = new int[Protocol.EVENT_WINDOW];    // Times each event has been sent
+    private final double[] sentTimes = new double[Protocol.EVENT_WINDOW];   // Last time each event was sent
+    private final boolean[] pending = new boolean[Protocol.EVENT_WINDOW];   // Indicates whether each event is still in flight
+    private int nextSequence = 1;                                       // Sequence number of the next event
+    private final Queue<ByteBuffer> backlog = new ArrayDeque<>();       // Events waiting for the window to move on (Oldest first)
+    private final IDIndex<Peer> peerIndex = new IDIndex<>(16);          // Known peers by ID
+    private final List<Peer> peers = new ArrayList<>();                 // Known peers
+    private double time;                                                // Channel's clock (Seconds, advanced by update)
+    private final double resendTimeout = 0.25;                          // Resend delay of an unacknowledged event (Seconds)
+    private final double holeResendDelay = 0.05;                        // Resend delay of an event a peer has skipped (Seconds)
+    private final int maxSends = 10;                                    // Sends of an event before giving up on the peers missing it
+    private Peer unwrappedPeer;                                         // Sender of the last unwrapped event, until it's accepted
+    private int unwrappedSequence;                                      // Sequence number of the last unwrapped event
+    private long resentCount, expiredCount, duplicateCount;             // Metrics
+
+    /**
+     * Object Constructor
+     *
+     * @param transport Transport obj
+     */
+    public EventChannel(Transport transport) {
+        this.transport = transport;
+        this.buffer = ByteBuffer.allocateDirect(Protocol.MAX_PACKET_SIZE);
+        this.events = new byte[Protocol.EVENT_WINDOW][Protocol.MAX_PACKET_SIZE];
+
+        int peerID;
+        do {
+            peerID = ThreadLocalRandom.current().nextInt();
+        } while (peerID == 0);
+        this.peerID = peerID;
+    }
+
+    /**
+     * Sends an event to the group & keeps it until it's acknowledged
+     * <p>If the window is full (ie. the oldest event in flight is still missed by someone), the event is held back & sent
+     * as soon as the window moves on (See update). While no peer is known (ie. a server nobody has joined yet), the event
+     * is sent once & not kept, there is nobody to wait for</p>
+     *
+     * @param message Encoded message, header included (From its position up to its limit)
+     * @throws IOException handled Err
+     */
+    public synchronized void send(ByteBuffer message) throws IOException {
+        if (!backlog.isEmpty() || pending[nextSequence & (Protocol.EVENT_WINDOW - 1)]) {
+            ByteBuffer event = ByteBuffer.allocate(message.remaining());
+            event.put(message).flip();
+            backlog.add(event);
+            return;
+        }
+        transmit(message);
+    }
+
+    /**
+     * Wraps an event into the window & sends it to the group
+     *
+     * @param message Encoded message, header included (From its position up to its limit)
+     * @throws IOException handled Err
+     */
+    private void transmit(ByteBuffer message) throws IOException {
+        int sequence = nextSequence++, slot = sequence & (Protocol.EVENT_WINDOW - 1);
+
+        Protocol.writeHeader(buffer, Protocol.EVENT);
+        buffer.putInt(peerID);
+        buffer.putInt(sequence);
+        buffer.put(message);
+        buffer.flip();
+
+        lengths[slot] = buffer.remaining();
+        buffer.get(events[slot], 0, lengths[slot]);
+        buffer.rewind();
+        sequences[slot] = sequence;
+        sendCounts[slot] = 1;
+        sentTimes[slot] = time;
+        pending[slot] = !peers.isEmpty();
+
+        transport.send(buffer, null);
+    }
+
+    /**
+     * Unwraps a received event (Reader thread)
+     * <p>A new event is not recorded as received until it's accepted</p>
+     *
+     * @param message Message (Positioned right after the header. If the event is new, it's left at the wrapped message)
+     * @return True if the event is new, false if it's a duplicate or an own event
+     */
+    public synchronized boolean receive(ByteBuffer message) {
+        int sender = message.getInt(), sequence = message.getInt();
+        if (sender == peerID || sender == 0)
+            return false;
+
+        Peer peer = getPeer(sender);
+        if (!peer.received.isNew(sequence)) {
+            peer.ackDue = true;     // Acknowledge duplicates too, the previous ack may have been lost
+            duplicateCount++;
+            return false;
+        }
+
+        unwrappedPeer = peer;
+        unwrappedSequence = sequence;
+        return true;
+    }
+
+    /**
+     * Records the last unwrapped event as received & acknowledges it (Reader thread, once the event has been handed over)
+     * <p>An event that is never accepted (ie. the inbox was full) is sent again by its sender</p>
+     */
+    public synchronized void accept() {
+        if (unwrappedPeer == null)
+            return;
+
+        unwrappedPeer.received.add(unwrappedSequence);
+        unwrappedPeer.ackDue = true;
+        unwrappedPeer = null;
+    }
+
+    /**
+     * Takes a received ack (Reader thread)
+     *
+     * @param message Message (Positioned right after the header)
+     */
+    public synchronized void acknowledge(ByteBuffer message) {
+        int sender = message.getInt(), target = message.getInt(), newest = message.getInt(), bits = message.getInt();
+        if (target == peerID && sender != peerID && sender != 0)
+            getPeer(sender).acked.merge(newest, bits);
+    }
+
+    /**
+     * Advances the channel's clock, acknowledges the received events & resends the events someone is missing
+     * <p>An event is resent after a short delay if a peer has acknowledged a newer one (ie. it's a hole), otherwise
+     * after the timeout. A peer that is still missing an event after all its sends is forgotten, until it's heard from
+     * again. Then the held back events are sent, as far as the window has room</p>
+     *
+     * @param dt Length of the tick (Seconds)
+     * @throws IOException handled Err
+     */
+    public synchronized void update(double dt) throws IOException {
+        time += dt;
+
+        // Acknowledge the events received since the last tick
+        for (Peer peer : peers)
+            if (peer.ackDue) {
+                Protocol.writeHeader(buffer, Protocol.ACK);
+                buffer.putInt(peerID);
+                buffer.putInt(peer.ID);
+                buffer.putInt(peer.received.newest);
+                buffer.putInt(peer.received.bits);
+                buffer.flip();
+                transport.send(buffer, null);
+                peer.ackDue = false;
+            }
+
+        for (int slot = 0; slot < Protocol.EVENT_WINDOW; slot++) {
+            if (!pending[slot])
+                continue;
+
+            // Find out whether any known peer is missing the event (If they have all been forgotten, nobody is)
+            int sequence = sequences[slot];
+            boolean missing = false, hole = false;
+            for (Peer peer : peers)
+                if (!peer.acked.contains(sequence)) {
+                    missing = true;
+                    hole |= peer.acked.started && peer.acked.newest - sequence > 0;
+                }
+
+            if (!missing)
+                pending[slot] = false;
+            else if (time - sentTimes[slot] >= (hole ? holeResendDelay : resendTimeout)) {
+                if (sendCounts[slot] >= maxSends) {
+                    forgetPeersMissing(sequence);
+                    pending[slot] = false;
+                    expiredCount++;
+                    continue;
+                }
+
+                buffer.clear();
+                buffer.put(events[slot], 0, lengths[slot]);
+                buffer.flip();
+                transport.send(buffer, null);
+
+                sentTimes[slot] = time;
+                sendCounts[slot]++;
+                resentCount++;
+            }
+        }
+
+        while (!backlog.isEmpty() && !pending[nextSequence & (Protocol.EVENT_WINDOW - 1)])
+            transmit(backlog.poll());
+    }
+
+    /**
+     * Returns a known peer, adds it if it's new
+     * <p>A new peer is taken as having every event sent so far (It has joined late, or has been forgotten), so it's only
+     * waited for on the next ones</p>
+     *
+     * @param ID Peer ID
+     * @return Peer
+     */
+    private Peer getPeer(int ID) {
+        Peer peer = peerIndex.get(ID);
+        if (peer == null) {
+            peer = new Peer(ID);
+            peer.acked.merge(nextSequence - 1, -1);
+            peerIndex.put(ID, peer);
+            peers.add(peer);
+        }
+        return peer;
+    }
+
+    /**
+     * Forgets the peers missing an event (They have probably left)
+     *
+     * @param sequence Sequence number of the event
+     */
+    private void forgetPeersMissing(int sequence) {
+        for (int i = peers.size() - 1; i >= 0; i--)
+            if (!peers.get(i).acked.contains(sequence))
+                peerIndex.remove(peers.remove(i).ID);
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of events in flight
+     */
+    public synchronized int getPendingCount() {
+        int count = 0;
+        for (boolean inFlight : pending)
+            if (inFlight)
+                count++;
+        return count;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of events held back until the window moves on
+     */
+    public synchronized int getBacklogCount() {
+        return backlog.size();
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of resends so far
+     */
+    public synchronized long getResentCount() {
+        return resentCount;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of events given up so far (Out of sends, the peers missing them have been forgotten)
+     */
+    public synchronized long getExpiredCount() {
+        return expiredCount;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of duplicate events received so far
+     */
+    public synchronized long getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    /**
+     * Peer class
+     * <p>This class holds the events exchanged with another peer: the ones received from it & the ones it has
+     * acknowledged</p>
+     */
+    private static class Peer {
+
+        /**
+         * Variables, Objects, Components, ...
+         */
+        private final int ID;                                   // Peer ID
+        private final AckState received = new AckState();       // Events received from the peer
+        private final AckState acked = new AckState();          // Own events the peer has acknowledged
+        private boolean ackDue;                                 // Indicates whether an ack is to be sent to the peer
+
+        /**
+         * Object Constructor
+         *
+         * @param ID Peer ID
+         */
+        private Peer(int ID) {
+            this.ID = ID;
+        }
+    }
+
+    /**
+     * AckState class
+     * <p>This class is a set of sequence numbers, held as the newest one plus a bitfield of the EVENT_WINDOW ones before
+     * it (Bit i is the newest - 1 - i). Older sequence numbers are out of the window</p>
+     */
+    private static class AckState {
+
+        /**
+         * Variables, Objects, Components, ...
+         */
+        private boolean started;                // Indicates whether anything has been added
+        private int newest;                     // Newest sequence number
+        private int bits;                       // Sequence numbers before the newest one
+
+        /**
+         * Adds a sequence number
+         *
+         * @param sequence Sequence number
+         * @return True if it's new (Sequence numbers out of the window are never new)
+         */
+        private boolean add(int sequence) {
+            if (!isNew(sequence))
+                return false;
+
+            merge(sequence, 0);
+            return true;
+        }
+
+        /**
+         * Indicates whether a sequence number would be new to the set or not
+         *
+         * @param sequence Sequence number
+         * @return False if it's in the set or out of the window
+         */
+        private boolean isNew(int sequence) {
+            return !contains(sequence) && !(started && newest - sequence > Protocol.EVENT_WINDOW);
+        }
+
+        /**
+         * Adds an acknowledged set of sequence numbers
+         *
+         * @param newest Newest sequence number of the set
+         * @param bits   Sequence numbers before the newest one (See the class)
+         */
+        private void merge(int newest, int bits) {
+            if (!started) {
+                this.started = true;
+                this.newest = newest;
+                this.bits = bits;
+                return;
+            }
+
+            int distance = newest - this.newest;
+            if (distance > 0) {
+                this.bits = bits | shift(this.bits, distance);
+                this.newest = newest;
+            } else if (distance == 0)
+                this.bits |= bits;
+            else
+                this.bits |= shift(bits, -distance);
+        }
+
+        /**
+         * Indicates whether a sequence number is in the set or not
+         *
+         * @param sequence Sequence number
+         * @return Containment status
+         */
+        private boolean contains(int sequence) {
+            int distance = newest - sequence;
+            return started && (distance == 0 || distance > 0 && distance <= Protocol.EVENT_WINDOW && (bits & (1 << (distance - 1))) != 0);
+        }
+
+        /**
+         * Moves a set (newest + bits) back by a number of sequence numbers, as bits of a newer set
+         *
+         * @param bits     Bits of the set
+         * @param distance Sequence numbers between the two newest ones (Positive)
+         * @return Bits of the moved set (Including its newest one, whatever falls out of the window is dropped)
+         */
+        private static int shift(int bits, int distance) {
+            return distance > Protocol.EVENT_WINDOW ? 0 : (int) ((((long) bits << 1) | 1) << (distance - 1));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.nio.ByteBuffer;
+
+/**
+ * ExplosiveState class
+ * <p>This class holds the replicated state of a fired explosive, and encodes it to (Or decodes it from) the fixed
+ * width wire format</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class ExplosiveState {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    public long ID;                         // Numeric explosive ID
+    public byte type;                       // Explosive's type (Index into Protocol.EXPLOSIVE_NAMES)
+    public int x, y;                        // Explosive's coordinates
+    public double rotation;                 // Explosive's theta (Radiant)
+    public int width, height;               // Explosive's width & height
+    public double scale;                    // Explosive's scale
+    public int damage;                      // Explosive's damage
+    public int thrust;                      // Explosive's speed
+    public byte color;                      // Explosive's color (Index into Protocol.COLOR_NAMES)
+
+    /**
+     * Encodes the state (Header included) into the buffer
+     *
+     * @param buffer Buffer
+     */
+    public void write(ByteBuffer buffer) {
+        Protocol.writeHeader(buffer, Protocol.EXPLOSIVE);
+        buffer.putLong(ID);
+        buffer.put(type);
+        buffer.putShort((short) x);
+        buffer.putShort((short) y);
+        buffer.putShort(Protocol.quantizeAngle(rotation));
+        buffer.put((byte) width);
+        buffer.put((byte) height);
+        buffer.putShort(Protocol.quantizeScale(scale));
+        buffer.putShort((short) damage);
+        buffer.put((byte) thrust);
+        buffer.put(color);
+    }
+
+    /**
+     * Decodes the state from the buffer (Positioned right after the header)
+     *
+     * @param buffer Buffer
+     */
+    public void read(ByteBuffer buffer) {
+        ID = buffer.getLong();
+        type = buffer.get();
+        x = buffer.getShort();
+        y = buffer.getShort();
+        rotation = Protocol.dequantizeAngle(buffer.getShort());
+        width = buffer.get() & 0xFF;
+        height = buffer.get() & 0xFF;
+        scale = Protocol.dequantizeScale(buffer.getShort());
+        damage = buffer.getShort();
+        thrust = buffer.get();
+        color = buffer.get();
+    }
+}
\ No newline at end of file
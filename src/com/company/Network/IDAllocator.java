@@ -0,0 +1,56 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * IDAllocator class
+ * <p>This class issues the IDs of the game objects (Players, explosives & care packages). An ID is a 64-bit number: the
+ * high half is a random prefix picked once per peer, the low half is a sequence number. So IDs never collide within a
+ * peer (However fast the objects are created), and two peers only collide if they pick the same prefix</p>
+ *
+ * <p>IDs are never 0, which stands for "no ID" (See IDIndex)</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public final class IDAllocator {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    private final static long prefix = pickPrefix();                        // This peer's prefix (High 32 bits)
+    private final static AtomicInteger sequence = new AtomicInteger();      // Last issued sequence number (Low 32 bits)
+
+    /**
+     * Not to be instantiated
+     */
+    private IDAllocator() {
+    }
+
+    /**
+     * Issues a new ID (Thread-safe)
+     *
+     * @return ID
+     */
+    public static long next() {
+        return prefix | (sequence.incrementAndGet() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Picks a random, non-zero prefix
+     *
+     * @return Prefix (Shifted to the high 32 bits)
+     */
+    private static long pickPrefix() {
+        SecureRandom random = new SecureRandom();
+        int prefix;
+        do {
+            prefix = random.nextInt();
+        } while (prefix == 0);
+        return (long) prefix << 32;
+    }
+}
\ No newline at end of file
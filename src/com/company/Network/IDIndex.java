@@ -0,0 +1,157 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.util.Arrays;
+
+/**
+ * IDIndex class
+ * <p>This class maps object IDs (See IDAllocator) to the objects, so the received messages find their object in
+ * constant time instead of scanning the lists. It's an open-addressing hash table over primitive keys (Linear probing,
+ * nothing is boxed), grown once half full</p>
+ *
+ * <p>Note that the ID 0 can not be indexed (It marks the empty slots)</p>
+ *
+ * @param <T> Object type
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class IDIndex<T> {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    private long[] keys;                    // IDs (0 if the slot is empty)
+    private Object[] values;                // Objects
+    private int mask;                       // Capacity - 1
+    private int size;                       // Number of indexed objects
+
+    /**
+     * Object Constructor
+     *
+     * @param capacity Initial capacity (Rounded up to a power of two, grows as needed)
+     */
+    public IDIndex(int capacity) {
+        int length = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+
+        this.keys = new long[length];
+        this.values = new Object[length];
+        this.mask = length - 1;
+    }
+
+    /**
+     * Returns the object of an ID
+     *
+     * @param ID ID
+     * @return Object (Null if not indexed)
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long ID) {
+        for (int i = slotOf(ID); keys[i] != 0; i = (i + 1) & mask)
+            if (keys[i] == ID)
+                return (T) values[i];
+        return null;
+    }
+
+    /**
+     * Indexes an object (Replaces the previous object of the ID, if any)
+     *
+     * @param ID     ID (Not 0)
+     * @param object Object
+     */
+    public void put(long ID, T object) {
+        if (ID == 0)
+            throw new IllegalArgumentException("The ID 0 can not be indexed.");
+
+        int i = slotOf(ID);
+        while (keys[i] != 0 && keys[i] != ID)
+            i = (i + 1) & mask;
+
+        if (keys[i] == 0) {
+            keys[i] = ID;
+            size++;
+        }
+        values[i] = object;
+
+        if (size * 2 > keys.length)
+            grow();
+    }
+
+    /**
+     * Removes the object of an ID
+     * <p>The following slots of the probe run are shifted back, so no tombstones are left behind</p>
+     *
+     * @param ID ID
+     * @return True if it was indexed
+     */
+    public boolean remove(long ID) {
+        int i = slotOf(ID);
+        while (keys[i] != ID) {
+            if (keys[i] == 0)
+                return false;
+            i = (i + 1) & mask;
+        }
+
+        // Move back every key that would no longer be reachable through the emptied slot
+        for (int j = (i + 1) & mask; keys[j] != 0; j = (j + 1) & mask) {
+            int home = slotOf(keys[j]);
+            if (((j - home) & mask) >= ((j - i) & mask)) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        keys[i] = 0;
+        values[i] = null;
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes every object
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of indexed objects
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Doubles the capacity & re-inserts the objects
+     */
+    @SuppressWarnings("unchecked")
+    private void grow() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+
+        keys = new long[oldKeys.length * 2];
+        values = new Object[oldKeys.length * 2];
+        mask = keys.length - 1;
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++)
+            if (oldKeys[i] != 0)
+                put(oldKeys[i], (T) oldValues[i]);
+    }
+
+    /**
+     * Returns the home slot of an ID
+     * <p>The IDs are mixed first, since sequential IDs of the same prefix differ in their low bits only</p>
+     *
+     * @param ID ID
+     * @return Slot index
+     */
+    private int slotOf(long ID) {
+        long hash = ID * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
\ No newline at end of file
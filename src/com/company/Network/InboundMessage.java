@@ -0,0 +1,37 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.net.SocketAddress;
+
+/**
+ * InboundMessage class
+ * <p>This class is a slot of the inbound queue (See InboundQueue). Each slot owns a holder of every message kind, so the
+ * reader thread fills them in place and nothing is allocated per message</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class InboundMessage {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    public byte type;                                                   // Message type (See Protocol)
+    public final PlayerState player = new PlayerState();                // Player info (Type PLAYER. ID & sequence only for the keyframe requests, see GameManager)
+    public final ExplosiveState explosive = new ExplosiveState();       // Explosive info (Type EXPLOSIVE)
+    public final CarePackageState carePackage = new CarePackageState(); // Care package info (Type CARE_PACKAGE)
+    public final MapState map = new MapState();                         // Map layout (Type MAP)
+    public final InputState[] inputs = new InputState[Protocol.MAX_REDUNDANT_INPUTS];  // Player inputs, oldest first (Type INPUT)
+    public int inputCount;                                              // Number of player inputs
+    public SocketAddress source;                                        // Sender's address (Types INPUT, PLAYER_DELTA, KEYFRAME_REQUEST & MAP_REQUEST, answered there)
+
+    /**
+     * Object Constructor
+     */
+    public InboundMessage() {
+        for (int i = 0; i < inputs.length; i++)
+            inputs[i] = new InputState();
+    }
+}
\ No newline at end of file
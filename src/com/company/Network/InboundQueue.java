@@ -0,0 +1,182 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * InboundQueue class
+ * <p>This class hands the decoded messages from the network thread(s) over to the game loop. It's a bounded lock-free
+ * queue over preallocated slots (Multiple producers, a single consumer): every slot carries a sequence number that
+ * tells whether it's free to be filled or ready to be read, so neither side ever blocks the other</p>
+ *
+ * <p>When the game loop falls behind and the queue is full, the incoming message is dropped and counted. Player state
+ * is resent every keyframe anyway, so dropping is cheaper than stalling the network thread</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class InboundQueue {
+
+    /**
+     * Consumes the drained messages
+     */
+    public interface Handler {
+
+        /**
+         * Handles a message (The slot is reused once this returns)
+         *
+         * @param message Message
+         */
+        void handle(InboundMessage message);
+    }
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    private final InboundMessage[] slots;                   // Preallocated messages
+    private final AtomicLongArray sequences;                // Slot sequences (Free for position p once it's p, readable once it's p + 1)
+    private final int mask;                                 // Capacity - 1
+    private final AtomicLong tail = new AtomicLong();       // Next position to claim (Producers)
+    private long head;                                      // Next position to read (Consumer only)
+
+    // Metrics
+    private final AtomicLong offeredCount = new AtomicLong();   // Messages offered
+    private final AtomicLong droppedCount = new AtomicLong();   // Messages dropped (Queue full)
+    private volatile int highWaterMark;                         // Deepest backlog drained at once
+
+    /**
+     * Object Constructor
+     *
+     * @param capacity Capacity (Rounded up to a power of two)
+     */
+    public InboundQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+
+        this.slots = new InboundMessage[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new InboundMessage();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Claims a free slot (Producers)
+     * <p>The slot must be filled and then handed back with publish()</p>
+     *
+     * @return Claimed position (-1 if the queue is full, the message is counted as dropped)
+     */
+    public long claim() {
+        offeredCount.incrementAndGet();
+
+        long position = tail.get();
+        while (true) {
+            long difference = sequences.get((int) position & mask) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1))
+                    return position;
+                position = tail.get();      // Another producer took it
+            } else if (difference < 0) {
+                droppedCount.incrementAndGet();
+                return -1;                  // Full
+            } else
+                position = tail.get();
+        }
+    }
+
+    /**
+     * Returns the message of a claimed position (Producers)
+     *
+     * @param position Claimed position
+     * @return Message to fill
+     */
+    public InboundMessage get(long position) {
+        return slots[(int) position & mask];
+    }
+
+    /**
+     * Makes a filled slot visible to the consumer (Producers)
+     *
+     * @param position Claimed position
+     */
+    public void publish(long position) {
+        sequences.lazySet((int) position & mask, position + 1);
+    }
+
+    /**
+     * Hands every published message over to the handler (Consumer)
+     * <p>At most one queue worth of messages is drained, so producers can't keep the consumer here forever</p>
+     *
+     * @param handler Handler
+     * @return Drained messages count
+     */
+    public int drain(Handler handler) {
+        int count = 0;
+        while (count < slots.length) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1)
+                break;                      // Empty (Or the next slot is still being filled)
+
+            try {
+                handler.handle(slots[index]);
+            } finally {
+                sequences.lazySet(index, head + slots.length);  // Free the slot for the next lap
+                head++;
+                count++;
+            }
+        }
+
+        if (count > highWaterMark)
+            highWaterMark = count;
+        return count;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Approximate number of queued messages
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(slots.length, tail.get() - head));
+    }
+
+    /**
+     * Getter
+     *
+     * @return Capacity
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Messages offered so far
+     */
+    public long getOfferedCount() {
+        return offeredCount.get();
+    }
+
+    /**
+     * Getter
+     *
+     * @return Messages dropped so far (Queue was full)
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Getter
+     *
+     * @return Deepest backlog drained at once
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+}
\ No newline at end of file
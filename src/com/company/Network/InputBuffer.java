@@ -0,0 +1,154 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.nio.ByteBuffer;
+
+/**
+ * InputBuffer class
+ * <p>This class is a ring of numbered inputs (Oldest first) over preallocated holders. Clients keep the inputs the
+ * server hasn't acknowledged yet, to replay them on top of each authoritative state. The server keeps the inputs of
+ * each client that are waiting for their tick</p>
+ *
+ * <p>Inputs are sent in batches: each message repeats the newest few inputs, so a lost datagram costs no input</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class InputBuffer {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    private final InputState[] inputs;      // Preallocated inputs
+    private final int mask;                 // Capacity - 1
+    private int first;                      // Index of the oldest input
+    private int size;                       // Number of buffered inputs
+
+    /**
+     * Object Constructor
+     *
+     * @param capacity Capacity (Rounded up to a power of two). Once full, the oldest input is overwritten
+     */
+    public InputBuffer(int capacity) {
+        int length = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+
+        this.inputs = new InputState[length];
+        this.mask = length - 1;
+        for (int i = 0; i < length; i++)
+            inputs[i] = new InputState();
+    }
+
+    /**
+     * Appends an input
+     *
+     * @return Holder of the new input (To be filled)
+     */
+    public InputState append() {
+        if (size == inputs.length)
+            removeFirst();      // Full, drop the oldest
+
+        return inputs[(first + size++) & mask];
+    }
+
+    /**
+     * Drops the oldest input
+     */
+    public void removeFirst() {
+        if (size == 0)
+            return;
+
+        first = (first + 1) & mask;
+        size--;
+    }
+
+    /**
+     * Drops every input up to (And including) the acknowledged one
+     *
+     * @param sequence Sequence number of the last acknowledged input
+     */
+    public void acknowledge(int sequence) {
+        while (size > 0 && get(0).sequence - sequence <= 0)
+            removeFirst();
+    }
+
+    /**
+     * Drops every input
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Getter
+     *
+     * @param index Index (0 is the oldest)
+     * @return Input
+     */
+    public InputState get(int index) {
+        return inputs[(first + index) & mask];
+    }
+
+    /**
+     * Getter
+     *
+     * @return Newest input (Null if empty)
+     */
+    public InputState getLast() {
+        return size > 0 ? get(size - 1) : null;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of buffered inputs
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Encodes the newest inputs as an input message (Header included) into the buffer
+     *
+     * @param buffer Buffer
+     * @param ID     Numeric player ID
+     * @param count  Maximum number of inputs to send (See Protocol.MAX_REDUNDANT_INPUTS)
+     */
+    public void write(ByteBuffer buffer, long ID, int count) {
+        int sent = Math.min(count, size);
+
+        Protocol.writeHeader(buffer, Protocol.INPUT);
+        buffer.putLong(ID);
+        buffer.put((byte) sent);
+        for (int i = size - sent; i < size; i++) {
+            InputState input = get(i);
+            buffer.putInt(input.sequence);
+            buffer.put((byte) input.keys);
+            buffer.putInt(input.viewTick);
+        }
+    }
+
+    /**
+     * Decodes an input message from the buffer (Positioned right after the header)
+     *
+     * @param buffer Buffer
+     * @param inputs Holders to fill (Oldest first. If there are more inputs than holders, the oldest are skipped)
+     * @return Number of decoded inputs
+     */
+    public static int read(ByteBuffer buffer, InputState[] inputs) {
+        long ID = buffer.getLong();
+        int count = buffer.get() & 0xFF, skipped = Math.max(0, count - inputs.length), decoded = 0;
+
+        for (int i = 0; i < count; i++) {
+            int sequence = buffer.getInt(), keys = buffer.get() & 0xFF, viewTick = buffer.getInt();
+            if (i >= skipped) {
+                inputs[decoded].ID = ID;
+                inputs[decoded].sequence = sequence;
+                inputs[decoded].keys = keys;
+                inputs[decoded++].viewTick = viewTick;
+            }
+        }
+        return decoded;
+    }
+}
\ No newline at end of file
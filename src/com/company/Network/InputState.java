@@ -0,0 +1,47 @@
+package com.company.Network;
+
+/**
+ * InputState class
+ * <p>This class holds the input of a player for one tick, as sent from a client to the dedicated server. Inputs are
+ * numbered, so the server can tell the client which of them it has already applied (See InputBuffer)</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class InputState {
+
+    /**
+     * Keys
+     */
+    public final static int UP = 1, DOWN = 2, LEFT = 4, RIGHT = 8, FIRE = 16, SWITCH = 32;
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    public long ID;                         // Numeric player ID
+    public int sequence;                    // Input sequence number
+    public int keys;                        // Pressed keys (See the key bits)
+    public int viewTick;                    // Server tick the client was showing the other tanks at (See SnapshotBuffer)
+
+    /**
+     * Indicates whether a key is pressed or not
+     *
+     * @param key Key bit
+     * @return Pressed status
+     */
+    public boolean isDown(int key) {
+        return (keys & key) != 0;
+    }
+
+    /**
+     * Copies every field of the given input
+     *
+     * @param input Input
+     */
+    public void copyFrom(InputState input) {
+        ID = input.ID;
+        sequence = input.sequence;
+        keys = input.keys;
+        viewTick = input.viewTick;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoopbackTransport class
+ * <p>This class is an in-memory transport. Transports that share a hub behave like peers of the same multicast group
+ * (A group message is delivered to every peer, the sender included), so games can be run & tested in one process
+ * without touching the network</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class LoopbackTransport implements Transport {
+
+    /**
+     * The group the transports are connected through
+     */
+    public static class Hub {
+        private final List<LoopbackTransport> peers = new CopyOnWriteArrayList<>();
+        private int nextPort = 1;
+
+        /**
+         * Connects a new peer to the hub
+         *
+         * @return Peer's transport
+         */
+        public synchronized LoopbackTransport connect() {
+            LoopbackTransport transport = new LoopbackTransport(this, new Address(nextPort++));
+            peers.add(transport);
+            return transport;
+        }
+    }
+
+    /**
+     * Address of a peer on a hub
+     */
+    public static class Address extends SocketAddress {
+        private static final long serialVersionUID = 1L;
+        private final int port;
+
+        /**
+         * Object Constructor
+         *
+         * @param port Peer's number on the hub
+         */
+        public Address(int port) {
+            this.port = port;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Address && ((Address) obj).port == port;
+        }
+
+        @Override
+        public int hashCode() {
+            return port;
+        }
+
+        @Override
+        public String toString() {
+            return "loopback:" + port;
+        }
+    }
+
+    /**
+     * A queued datagram
+     */
+    private static class Datagram {
+        private final byte[] data;
+        private final SocketAddress source;
+
+        private Datagram(byte[] data, SocketAddress source) {
+            this.data = data;
+            this.source = source;
+        }
+    }
+
+    /**
+     * Objects, Variables, Components, ...
+     */
+    private final Hub hub;                                                      // Hub the transport is connected to
+    private final Address address;                                              // Transport's address on the hub
+    private final BlockingQueue<Datagram> inbox = new LinkedBlockingQueue<>();  // Received datagrams
+    private volatile boolean open = true;                                       // Open indicator
+
+    /**
+     * Object Constructor (See Hub.connect)
+     *
+     * @param hub     Hub
+     * @param address Transport's address on the hub
+     */
+    private LoopbackTransport(Hub hub, Address address) {
+        this.hub = hub;
+        this.address = address;
+    }
+
+    /**
+     * Delivers a copy of the datagram to the target (Or every peer on the hub)
+     *
+     * @param message Message (From its position up to its limit)
+     * @param target  Receiver's address (Null to send to the whole group)
+     */
+    @Override
+    public void send(ByteBuffer message, SocketAddress target) {
+        byte[] data = new byte[message.remaining()];
+        message.get(data);
+
+        for (LoopbackTransport peer : hub.peers)
+            if (peer.open && (target == null || peer.address.equals(target)))
+                peer.inbox.offer(new Datagram(data, address));
+    }
+
+    /**
+     * Waits for a datagram
+     *
+     * @param buffer  Buffer to receive into
+     * @param timeout Maximum wait (Milliseconds)
+     * @return Sender's address (Null if nothing arrived in time, or the transport has been closed)
+     */
+    @Override
+    public SocketAddress receive(ByteBuffer buffer, long timeout) {
+        try {
+            Datagram datagram = open ? inbox.poll(timeout, TimeUnit.MILLISECONDS) : null;
+            if (datagram == null || !open)
+                return null;
+
+            buffer.clear();
+            buffer.put(datagram.data, 0, Math.min(datagram.data.length, buffer.remaining()));
+            buffer.flip();
+            return datagram.source;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Indicates whether the transport is open or not
+     *
+     * @return Open status
+     */
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Disconnects the transport from the hub
+     */
+    @Override
+    public void close() {
+        open = false;
+        hub.peers.remove(this);
+        inbox.clear();
+        inbox.offer(new Datagram(new byte[0], address));    // Wake up the reader
+    }
+
+    /**
+     * Getter
+     *
+     * @return Transport's address on the hub
+     */
+    public Address getAddress() {
+        return address;
+    }
+}
\ No newline at end of file
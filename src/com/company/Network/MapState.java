@@ -0,0 +1,77 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.nio.ByteBuffer;
+
+/**
+ * MapState class
+ * <p>This class holds the layout of the dedicated server's map (Where the map starts & which cells hold a fence), and
+ * encodes it to (Or decodes it from) the wire format. Clients lay their map out the same way, so the walls they predict
+ * their tank against are the server's</p>
+ *
+ * <p>The fences are sent as a bitfield of the map's cells, row by row (ie. maps up to 8000 cells)</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class MapState {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    public int rows, columns;               // Map's dimensions (Rows & columns of the map file)
+    public int originX, originY;            // Top-left corner of the map
+    public boolean[][] fences;              // Cells holding a fence (Indexed like the map file)
+
+    /**
+     * Encodes the state (Header included) into the buffer
+     *
+     * @param buffer Buffer
+     */
+    public void write(ByteBuffer buffer) {
+        Protocol.writeHeader(buffer, Protocol.MAP);
+        buffer.putShort((short) rows);
+        buffer.putShort((short) columns);
+        buffer.putInt(originX);
+        buffer.putInt(originY);
+
+        int bits = 0, count = 0;
+        for (int i = 0; i < rows; i++)
+            for (int j = 0; j < columns; j++) {
+                if (fences[i][j])
+                    bits |= 1 << count;
+                if (++count == 8) {
+                    buffer.put((byte) bits);
+                    bits = 0;
+                    count = 0;
+                }
+            }
+        if (count > 0)
+            buffer.put((byte) bits);
+    }
+
+    /**
+     * Decodes the state from the buffer (Positioned right after the header)
+     *
+     * @param buffer Buffer
+     */
+    public void read(ByteBuffer buffer) {
+        rows = buffer.getShort() & 0xFFFF;
+        columns = buffer.getShort() & 0xFFFF;
+        originX = buffer.getInt();
+        originY = buffer.getInt();
+
+        if (fences == null || fences.length != rows || rows > 0 && fences[0].length != columns)
+            fences = new boolean[rows][columns];
+
+        int bits = 0, count = 0;
+        for (int i = 0; i < rows; i++)
+            for (int j = 0; j < columns; j++) {
+                if (count++ % 8 == 0)
+                    bits = buffer.get();
+                fences[i][j] = (bits & (1 << ((count - 1) % 8))) != 0;
+            }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,194 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OutboundBatcher class
+ * <p>This class is a transport that holds the sent messages back until the end of the tick (See flush), and packs the
+ * messages of each destination into as few datagrams as possible. A batch is a BATCH message carrying the messages one
+ * after another, each prefixed with its length (See Protocol.BATCH). A destination with a single message gets it as it
+ * is</p>
+ *
+ * <p>So a tick costs one syscall per destination instead of one per message (ie. the bombs of a bombing run, or the
+ * states of all players). Receiving is passed straight through. Sending & flushing must happen on one thread (The game
+ * loop)</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class OutboundBatcher implements Transport {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    private final Transport transport;                                  // Underlying transport
+    private final Map<SocketAddress, Batch> batches = new HashMap<>();  // Batch of each destination (Null is the group)
+    private final List<Batch> order = new ArrayList<>();                // Batches in the order their destinations were first sent to
+    private final ByteBuffer single;                                    // Reused buffer of a batch holding a single message
+    private long messageCount, datagramCount;                           // Metrics
+
+    /**
+     * Object Constructor
+     *
+     * @param transport Underlying transport
+     */
+    public OutboundBatcher(Transport transport) {
+        this.transport = transport;
+        this.single = ByteBuffer.allocateDirect(Protocol.MAX_PACKET_SIZE);
+    }
+
+    /**
+     * Adds a message to the batch of its destination (Sent by flush)
+     * <p>If the batch is out of room, it's sent right away & a new one is started</p>
+     *
+     * @param message Message (From its position up to its limit, which is consumed)
+     * @param target  Destination (Null for the group)
+     * @throws IOException handled Err
+     */
+    @Override
+    public void send(ByteBuffer message, SocketAddress target) throws IOException {
+        int length = message.remaining();
+        messageCount++;
+
+        // Too large to be batched, send it on its own (After what's already waiting, to keep the order)
+        if (length > Protocol.MAX_PACKET_SIZE - Protocol.HEADER_SIZE - Protocol.BATCH_LENGTH_SIZE) {
+            if (batches.containsKey(target))
+                flush(batches.get(target));
+            transport.send(message, target);
+            datagramCount++;
+            return;
+        }
+
+        Batch batch = batches.get(target);
+        if (batch == null) {
+            batch = new Batch(target);
+            batches.put(target, batch);
+            order.add(batch);
+        } else if (batch.buffer.remaining() < Protocol.BATCH_LENGTH_SIZE + length)
+            flush(batch);
+
+        if (batch.count++ == 0)
+            Protocol.writeHeader(batch.buffer, Protocol.BATCH);
+        batch.buffer.putShort((short) length);
+        batch.buffer.put(message);
+    }
+
+    /**
+     * Sends every open batch
+     *
+     * @throws IOException handled Err
+     */
+    public void flush() throws IOException {
+        for (Batch batch : order)
+            flush(batch);
+    }
+
+    /**
+     * Sends a batch (If it holds anything)
+     *
+     * @param batch Batch
+     * @throws IOException handled Err
+     */
+    private void flush(Batch batch) throws IOException {
+        if (batch.count == 0)
+            return;
+
+        ByteBuffer buffer = batch.buffer;
+        buffer.flip();
+        if (batch.count == 1) {
+            // A lone message goes without the batch around it
+            buffer.position(Protocol.HEADER_SIZE + Protocol.BATCH_LENGTH_SIZE);
+            single.clear();
+            single.put(buffer);
+            single.flip();
+            transport.send(single, batch.target);
+        } else
+            transport.send(buffer, batch.target);
+
+        buffer.clear();
+        batch.count = 0;
+        datagramCount++;
+    }
+
+    /**
+     * Receives a datagram from the underlying transport (See Transport.receive)
+     *
+     * @param buffer  Buffer
+     * @param timeout Longest wait (Milliseconds)
+     * @return Sender's address (Null if nothing has arrived)
+     * @throws IOException handled Err
+     */
+    @Override
+    public SocketAddress receive(ByteBuffer buffer, long timeout) throws IOException {
+        return transport.receive(buffer, timeout);
+    }
+
+    /**
+     * Getter
+     *
+     * @return Open status of the underlying transport
+     */
+    @Override
+    public boolean isOpen() {
+        return transport.isOpen();
+    }
+
+    /**
+     * Closes the underlying transport (The open batches are dropped)
+     */
+    @Override
+    public void close() {
+        transport.close();
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of messages sent so far
+     */
+    public long getMessageCount() {
+        return messageCount;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of datagrams sent so far (ie. messages / datagrams is the average batch)
+     */
+    public long getDatagramCount() {
+        return datagramCount;
+    }
+
+    /**
+     * Batch class
+     * <p>This class holds the messages waiting for a destination</p>
+     */
+    private static class Batch {
+
+        /**
+         * Variables, Objects, Components, ...
+         */
+        private final SocketAddress target;     // Destination (Null for the group)
+        private final ByteBuffer buffer;        // Batch message being built
+        private int count;                      // Number of messages in the batch
+
+        /**
+         * Object Constructor
+         *
+         * @param target Destination (Null for the group)
+         */
+        private Batch(SocketAddress target) {
+            this.target = target;
+            this.buffer = ByteBuffer.allocateDirect(Protocol.MAX_PACKET_SIZE);
+        }
+    }
+}
\ No newline at end of file
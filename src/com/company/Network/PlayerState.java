@@ -0,0 +1,316 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * PlayerState class
+ * <p>This class holds the replicated state of a player & its tank, and encodes it to (Or decodes it from) the fixed
+ * width wire format. Holders are meant to be reused, so a steady stream of messages makes no garbage</p>
+ *
+ * <p>The state is sent as a full keyframe every once in a while (See Protocol.KEYFRAME_INTERVAL), and as deltas in
+ * between. A delta only holds the fields that differ from the last keyframe, so a lost delta never breaks the next one
+ * and late joiners catch up on the next keyframe</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class PlayerState {
+
+    /**
+     * Flags
+     */
+    private final static int DEAD = 1, EXPLODED = 2, ACTIVATE_BUFF = 4, SHIELD = 8, GHOST = 16, AI = 32;
+
+    /**
+     * Field bits (Dirty bits of a delta)
+     */
+    public final static int COUNTS = 1, FLAGS = 1 << 1, X = 1 << 2, Y = 1 << 3, ROTATION = 1 << 4, THRUST = 1 << 5,
+            HEALTH = 1 << 6, EXPLOSIVE = 1 << 7, COEFFICIENTS = 1 << 8, TANK = 1 << 9, TEAM = 1 << 10, NAME = 1 << 11,
+            INPUT = 1 << 12;
+    public final static int MAX_NAME_LENGTH = 16;          // Maximum encoded name length (Bytes)
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    public long ID;                                         // Numeric player ID
+    public short sequence;                                  // Sequence number of the keyframe (The baseline of a delta)
+    public int tick;                                        // Sender's tick the state was captured on (Sent with every keyframe & delta)
+    public int deathCount, killCount;                       // Player's win/death count indicator
+    public boolean isDead, exploded, isAI;                  // Player's status
+    public int x, y;                                        // Tank's coordinates
+    public double rotation;                                 // Tank's rotation (Radiant, 0 to 2PI once decoded)
+    public int thrust, health;                              // Tank's thrust & health
+    public byte explosive;                                  // Tank's explosive (Index into Protocol.EXPLOSIVE_NAMES)
+    public int firePowerCoefficient;                        // Tank's fire power coefficient
+    public int explosiveSpeedCoefficient;                   // Tank's explosive speed coefficient
+    public boolean activateBuff, shield, ghost;             // Tank's care package status
+    public byte tank;                                       // Tank's name (Index into Protocol.TANK_NAMES)
+    public int teamID;                                      // Player's team
+    public int inputSequence;                               // Last input the server has applied (Dedicated server only)
+    private final byte[] nameBytes = new byte[MAX_NAME_LENGTH];
+    private int nameLength;                                 // Encoded name length
+    private String name = "";                               // Player's name (Only re-encoded or re-decoded once it changes)
+
+    /**
+     * Encodes the state as a keyframe (Header included) into the buffer
+     *
+     * @param buffer Buffer
+     */
+    public void write(ByteBuffer buffer) {
+        Protocol.writeHeader(buffer, Protocol.PLAYER);
+        buffer.putLong(ID);
+        buffer.putShort(sequence);
+        buffer.putInt(tick);
+        writeFields(buffer, -1);
+    }
+
+    /**
+     * Decodes a keyframe from the buffer (Positioned right after the header)
+     *
+     * @param buffer Buffer
+     */
+    public void read(ByteBuffer buffer) {
+        ID = buffer.getLong();
+        sequence = buffer.getShort();
+        tick = buffer.getInt();
+        readFields(buffer, -1);
+    }
+
+    /**
+     * Encodes the fields that differ from the baseline as a delta (Header included) into the buffer
+     *
+     * @param buffer   Buffer
+     * @param baseline Last sent keyframe
+     * @param fields   Changed fields (See getChangedFields)
+     */
+    public void writeDelta(ByteBuffer buffer, PlayerState baseline, int fields) {
+        Protocol.writeHeader(buffer, Protocol.PLAYER_DELTA);
+        buffer.putLong(ID);
+        buffer.putShort(baseline.sequence);
+        buffer.putInt(tick);
+        buffer.putShort((short) fields);
+        writeFields(buffer, fields);
+    }
+
+    /**
+     * Decodes a delta from the buffer (Positioned right after the header) on top of the baseline
+     *
+     * @param buffer   Buffer
+     * @param baseline Last received keyframe of the same player
+     * @return True if the delta was made against the given baseline (Otherwise the state is left untouched)
+     */
+    public boolean readDelta(ByteBuffer buffer, PlayerState baseline) {
+        long ID = buffer.getLong();
+        short sequence = buffer.getShort();
+        int tick = buffer.getInt();
+        int fields = buffer.getShort() & 0xFFFF;
+
+        if (ID != baseline.ID || sequence != baseline.sequence)
+            return false;   // Baseline missed (The receiver asks for it, see Protocol.KEYFRAME_REQUEST)
+
+        copyFrom(baseline);
+        this.tick = tick;
+        readFields(buffer, fields);
+        return true;
+    }
+
+    /**
+     * Peeks the player ID of the message in the buffer (Positioned right after the header)
+     *
+     * @param buffer Buffer
+     * @return Numeric player ID
+     */
+    public static long peekID(ByteBuffer buffer) {
+        return buffer.getLong(buffer.position());
+    }
+
+    /**
+     * Peeks the keyframe sequence a delta in the buffer (Positioned right after the header) is made against
+     *
+     * @param buffer Buffer
+     * @return Sequence number of the baseline
+     */
+    public static short peekBaseline(ByteBuffer buffer) {
+        return buffer.getShort(buffer.position() + Long.BYTES);
+    }
+
+    /**
+     * Compares the state with the baseline field by field (As they would be sent, ie. quantized)
+     *
+     * @param baseline Last sent keyframe
+     * @return Changed field bits (0 if nothing has changed)
+     */
+    public int getChangedFields(PlayerState baseline) {
+        int fields = 0;
+
+        if (deathCount != baseline.deathCount || killCount != baseline.killCount) fields |= COUNTS;
+        if (getFlags() != baseline.getFlags()) fields |= FLAGS;
+        if ((short) x != (short) baseline.x) fields |= X;
+        if ((short) y != (short) baseline.y) fields |= Y;
+        if (Protocol.quantizeAngle(rotation) != Protocol.quantizeAngle(baseline.rotation)) fields |= ROTATION;
+        if (thrust != baseline.thrust) fields |= THRUST;
+        if (health != baseline.health) fields |= HEALTH;
+        if (explosive != baseline.explosive) fields |= EXPLOSIVE;
+        if (firePowerCoefficient != baseline.firePowerCoefficient || explosiveSpeedCoefficient != baseline.explosiveSpeedCoefficient) fields |= COEFFICIENTS;
+        if (tank != baseline.tank) fields |= TANK;
+        if (teamID != baseline.teamID) fields |= TEAM;
+        if (nameLength != baseline.nameLength || !Arrays.equals(nameBytes, baseline.nameBytes)) fields |= NAME;
+        if (inputSequence != baseline.inputSequence) fields |= INPUT;
+
+        return fields;
+    }
+
+    /**
+     * Copies every field of the given state
+     *
+     * @param state State
+     */
+    public void copyFrom(PlayerState state) {
+        ID = state.ID;
+        sequence = state.sequence;
+        tick = state.tick;
+        deathCount = state.deathCount;
+        killCount = state.killCount;
+        isDead = state.isDead;
+        exploded = state.exploded;
+        isAI = state.isAI;
+        x = state.x;
+        y = state.y;
+        rotation = state.rotation;
+        thrust = state.thrust;
+        health = state.health;
+        explosive = state.explosive;
+        firePowerCoefficient = state.firePowerCoefficient;
+        explosiveSpeedCoefficient = state.explosiveSpeedCoefficient;
+        activateBuff = state.activateBuff;
+        shield = state.shield;
+        ghost = state.ghost;
+        tank = state.tank;
+        teamID = state.teamID;
+        inputSequence = state.inputSequence;
+        System.arraycopy(state.nameBytes, 0, nameBytes, 0, MAX_NAME_LENGTH);
+        nameLength = state.nameLength;
+        name = state.name;
+    }
+
+    /**
+     * Encodes the given fields
+     *
+     * @param buffer Buffer
+     * @param fields Field bits (-1 for all)
+     */
+    private void writeFields(ByteBuffer buffer, int fields) {
+        if ((fields & COUNTS) != 0) {
+            buffer.putShort((short) deathCount);
+            buffer.putShort((short) killCount);
+        }
+        if ((fields & FLAGS) != 0) buffer.put((byte) getFlags());
+        if ((fields & X) != 0) buffer.putShort((short) x);
+        if ((fields & Y) != 0) buffer.putShort((short) y);
+        if ((fields & ROTATION) != 0) buffer.putShort(Protocol.quantizeAngle(rotation));
+        if ((fields & THRUST) != 0) buffer.put((byte) thrust);
+        if ((fields & HEALTH) != 0) buffer.putShort((short) health);
+        if ((fields & EXPLOSIVE) != 0) buffer.put(explosive);
+        if ((fields & COEFFICIENTS) != 0) {
+            buffer.put((byte) firePowerCoefficient);
+            buffer.put((byte) explosiveSpeedCoefficient);
+        }
+        if ((fields & TANK) != 0) buffer.put(tank);
+        if ((fields & TEAM) != 0) buffer.put((byte) teamID);
+        if ((fields & NAME) != 0) {
+            buffer.put((byte) nameLength);
+            buffer.put(nameBytes);
+        }
+        if ((fields & INPUT) != 0) buffer.putInt(inputSequence);
+    }
+
+    /**
+     * Decodes the given fields
+     *
+     * @param buffer Buffer
+     * @param fields Field bits (-1 for all)
+     */
+    private void readFields(ByteBuffer buffer, int fields) {
+        if ((fields & COUNTS) != 0) {
+            deathCount = buffer.getShort();
+            killCount = buffer.getShort();
+        }
+        if ((fields & FLAGS) != 0) {
+            int flags = buffer.get();
+            isDead = (flags & DEAD) != 0;
+            exploded = (flags & EXPLODED) != 0;
+            activateBuff = (flags & ACTIVATE_BUFF) != 0;
+            shield = (flags & SHIELD) != 0;
+            ghost = (flags & GHOST) != 0;
+            isAI = (flags & AI) != 0;
+        }
+        if ((fields & X) != 0) x = buffer.getShort();
+        if ((fields & Y) != 0) y = buffer.getShort();
+        if ((fields & ROTATION) != 0) rotation = Protocol.dequantizeAngle(buffer.getShort());
+        if ((fields & THRUST) != 0) thrust = buffer.get();
+        if ((fields & HEALTH) != 0) health = buffer.getShort();
+        if ((fields & EXPLOSIVE) != 0) explosive = buffer.get();
+        if ((fields & COEFFICIENTS) != 0) {
+            firePowerCoefficient = buffer.get();
+            explosiveSpeedCoefficient = buffer.get();
+        }
+        if ((fields & TANK) != 0) tank = buffer.get();
+        if ((fields & TEAM) != 0) teamID = buffer.get();
+        if ((fields & NAME) != 0) {
+            // Only decode the name once it changes
+            int length = Math.min(MAX_NAME_LENGTH, buffer.get() & 0xFF);
+            int start = buffer.position();
+            boolean changed = length != nameLength;
+            for (int i = 0; i < length && !changed; i++)
+                changed = buffer.get(start + i) != nameBytes[i];
+            buffer.get(nameBytes);
+
+            if (changed) {
+                nameLength = length;
+                name = new String(nameBytes, 0, length, StandardCharsets.UTF_8);
+            }
+        }
+        if ((fields & INPUT) != 0) inputSequence = buffer.getInt();
+    }
+
+    /**
+     * Packs the status flags
+     *
+     * @return Flags
+     */
+    private int getFlags() {
+        return (isDead ? DEAD : 0) | (exploded ? EXPLODED : 0) | (activateBuff ? ACTIVATE_BUFF : 0) |
+                (shield ? SHIELD : 0) | (ghost ? GHOST : 0) | (isAI ? AI : 0);
+    }
+
+    /**
+     * Setter
+     * <p>The name is only encoded when it is another string than the last one</p>
+     *
+     * @param name Player's name (Truncated to MAX_NAME_LENGTH bytes)
+     */
+    public void setName(String name) {
+        if (name == null || name.equals(this.name))
+            return;
+
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        Arrays.fill(nameBytes, (byte) 0);
+        nameLength = Math.min(MAX_NAME_LENGTH, bytes.length);
+        System.arraycopy(bytes, 0, nameBytes, 0, nameLength);
+        this.name = name;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Player's name
+     */
+    public String getName() {
+        return name;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.nio.ByteBuffer;
+
+/**
+ * Protocol class
+ * <p>This class defines the binary wire format shared by all peers. Each datagram starts with a header (The protocol
+ * version & the message type), followed by the fixed-width fields of the message. Positions are sent as 16-bit
+ * integers, angles are quantized to 16 bits over a full turn and names are sent as indexes into the tables below</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class Protocol {
+
+    /**
+     * Header
+     */
+    public final static byte VERSION = 1;                  // Protocol version (Peers with another version are ignored)
+    public final static int HEADER_SIZE = 2;               // Version + message type
+    public final static int MAX_PACKET_SIZE = 1024;        // Maximum datagram size
+
+    /**
+     * Message types
+     */
+    public final static byte PLAYER = 1;                   // Player & tank state (Keyframe)
+    public final static byte EXPLOSIVE = 2;                // Fired explosive
+    public final static byte CARE_PACKAGE = 3;             // Spawned care package
+    public final static byte PLAYER_DELTA = 4;             // Player & tank state (Changes since the last keyframe)
+    public final static byte INPUT = 5;                    // Player input (Client to dedicated server)
+    public final static byte EVENT = 6;                    // Reliable wrapper of a one-shot message (See EventChannel)
+    public final static byte ACK = 7;                      // Acknowledgement of the received events (See EventChannel)
+    public final static byte BATCH = 8;                    // Messages sent in one datagram, each prefixed with its length (See OutboundBatcher)
+    public final static int BATCH_LENGTH_SIZE = 2;         // Length prefix of a batched message (Unsigned 16-bit)
+    public final static byte KEYFRAME_REQUEST = 9;         // Request of a player's current keyframe (A delta has arrived against a keyframe that hasn't)
+    public final static byte MAP = 10;                     // Map layout (Dedicated server to client, see MapState)
+    public final static byte MAP_REQUEST = 11;             // Request of the map layout (Client to dedicated server, until the map arrives)
+
+    /**
+     * Replication
+     */
+    public final static int KEYFRAME_INTERVAL = 30;        // Ticks between two player keyframes (Late joiners wait at most this long)
+    public final static int STATE_INTERVAL = 2;            // Ticks between two player states (Receivers interpolate in between, see SnapshotBuffer)
+    public final static int MAX_REDUNDANT_INPUTS = 4;      // Newest inputs repeated in each input message (A few lost datagrams cost no input)
+    public final static int EVENT_WINDOW = 32;             // Events in flight per sender (Also the span of an ack's bitfield)
+    public final static int KEYFRAME_REQUEST_INTERVAL = 6; // Ticks before a missing keyframe is requested again (The answer may be on the way)
+    public final static int MAP_REQUEST_INTERVAL = 15;     // Ticks before the map layout is requested again
+
+    /**
+     * Name tables (Names are sent as their index)
+     */
+    public final static String[] TANK_NAMES = {"tank_blue", "tank_black", "tank_red", "tank_green", "tank_sand"};
+    public final static String[] EXPLOSIVE_NAMES = {"bomb", "missile"};
+    public final static String[] CARE_PACKAGE_NAMES = {"ghost", "health", "power", "speed", "laser", "shield"};
+    public final static String[] COLOR_NAMES = {"blue", "black", "red", "green", "sand"};
+
+    /**
+     * Quantization
+     */
+    private final static double angleStep = 2 * Math.PI / 65536;   // Angle resolution (Radiant)
+    private final static double scaleStep = 0.001;                 // Scale resolution
+
+    /**
+     * Writes the header of a message
+     *
+     * @param buffer Buffer (Cleared first)
+     * @param type   Message type
+     */
+    public static void writeHeader(ByteBuffer buffer, byte type) {
+        buffer.clear();
+        buffer.put(VERSION);
+        buffer.put(type);
+    }
+
+    /**
+     * Reads the header of a message
+     *
+     * @param buffer Buffer (Positioned at the start of the message)
+     * @return Message type (-1 if the message is too short or of another protocol version)
+     */
+    public static byte readHeader(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.get() != VERSION)
+            return -1;
+        return buffer.get();
+    }
+
+    /**
+     * Quantizes an angle to 16 bits
+     *
+     * @param angle Angle (Radiant)
+     * @return Quantized angle
+     */
+    public static short quantizeAngle(double angle) {
+        double turn = angle % (2 * Math.PI);
+        if (turn < 0)
+            turn += 2 * Math.PI;
+        return (short) Math.round(turn / angleStep);
+    }
+
+    /**
+     * Restores a quantized angle
+     *
+     * @param angle Quantized angle
+     * @return Angle (Radiant, 0 to 2PI)
+     */
+    public static double dequantizeAngle(short angle) {
+        return (angle & 0xFFFF) * angleStep;
+    }
+
+    /**
+     * Brings a received angle next to the current one, so the turn is never interpolated the long way around
+     *
+     * @param angle   Received angle (Radiant)
+     * @param current Current angle (Radiant)
+     * @return Equivalent angle closest to the current one
+     */
+    public static double unwrapAngle(double angle, double current) {
+        double difference = (angle - current) % (2 * Math.PI);
+        if (difference > Math.PI)
+            difference -= 2 * Math.PI;
+        else if (difference < -Math.PI)
+            difference += 2 * Math.PI;
+        return current + difference;
+    }
+
+    /**
+     * Quantizes a scale to 16 bits
+     *
+     * @param scale Scale
+     * @return Quantized scale
+     */
+    public static short quantizeScale(double scale) {
+        return (short) Math.round(scale / scaleStep);
+    }
+
+    /**
+     * Restores a quantized scale
+     *
+     * @param scale Quantized scale
+     * @return Scale
+     */
+    public static double dequantizeScale(short scale) {
+        return scale * scaleStep;
+    }
+
+    /**
+     * Extracts the numeric part of a textual ID (ie. the team ID "01")
+     * <p>Note that nothing is allocated, so the IDs can be compared per packet</p>
+     *
+     * @param ID Object ID
+     * @return Numeric ID (0 if there are no digits)
+     */
+    public static long parseID(String ID) {
+        long value = 0;
+        for (int i = 0; i < ID.length(); i++) {
+            char c = ID.charAt(i);
+            if (c >= '0' && c <= '9')
+                value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Looks up the index of a name in a name table
+     *
+     * @param table Name table
+     * @param name  Name
+     * @return Index (0 if the name is unknown)
+     */
+    public static byte indexOf(String[] table, String name) {
+        for (int i = 0; i < table.length; i++)
+            if (table[i].equals(name))
+                return (byte) i;
+        return 0;
+    }
+
+    /**
+     * Looks up a name in a name table
+     *
+     * @param table Name table
+     * @param index Index
+     * @return Name (The first one if the index is unknown)
+     */
+    public static String nameOf(String[] table, byte index) {
+        return index >= 0 && index < table.length ? table[index] : table[0];
+    }
+}
\ No newline at end of file
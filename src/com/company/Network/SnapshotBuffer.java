@@ -0,0 +1,192 @@
+package com.company.Network;
+
+/**
+ * SnapshotBuffer class
+ * <p>This class keeps the last received snapshots (Position & rotation, stamped with the sender's clock) of a remote
+ * entity, and plays them back a little in the past. The entity is interpolated between the two snapshots around the
+ * playback time, so it moves smoothly however unevenly the packets arrive</p>
+ *
+ * <p>The playback clock runs with the local ticks and is eased towards the newest snapshot minus the delay, so it
+ * follows the sender's clock without jumps. Once the snapshots run out, the entity is extrapolated for a limited time
+ * and then held still</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class SnapshotBuffer {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    private final double[] times, xs, ys, rotations;   // Snapshots (Ring, sender's clock in seconds)
+    private final int mask;                             // Capacity - 1
+    private int newest = -1, size;                      // Index of the newest snapshot & number of snapshots
+    private double delay;                               // Playback delay behind the newest snapshot (Seconds)
+    private final double maxExtrapolation;              // Longest extrapolation past the newest snapshot (Seconds)
+    private final double catchUpRate = 0.1;             // Share of the clock error corrected per tick
+    private final double teleportDistance = 128;        // Snapshots further apart are not interpolated (ie. respawns)
+    private double playbackTime = Double.NaN;           // Playback clock (Sender's clock in seconds)
+    private double x, y, rotation;                      // Last sampled transform
+
+    /**
+     * Object Constructor
+     *
+     * @param capacity         Capacity (Rounded up to a power of two)
+     * @param delay            Playback delay (Seconds, should cover a couple of send intervals plus the jitter)
+     * @param maxExtrapolation Longest extrapolation (Seconds)
+     */
+    public SnapshotBuffer(int capacity, double delay, double maxExtrapolation) {
+        int length = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+
+        this.times = new double[length];
+        this.xs = new double[length];
+        this.ys = new double[length];
+        this.rotations = new double[length];
+        this.mask = length - 1;
+        this.delay = delay;
+        this.maxExtrapolation = maxExtrapolation;
+    }
+
+    /**
+     * Adds a snapshot (Snapshots older than the newest one are ignored)
+     *
+     * @param time     Sender's time (Seconds)
+     * @param x        X-Axis
+     * @param y        Y-Axis
+     * @param rotation Rotation (Radiant)
+     */
+    public void add(double time, double x, double y, double rotation) {
+        if (size > 0) {
+            if (time <= times[newest])
+                return;     // Late or duplicate
+
+            // Jumps are not interpolated, start over from here
+            if (Math.abs(x - xs[newest]) > teleportDistance || Math.abs(y - ys[newest]) > teleportDistance) {
+                size = 0;
+                playbackTime = Double.NaN;
+            } else
+                rotation = Protocol.unwrapAngle(rotation, rotations[newest]);
+        }
+
+        newest = (newest + 1) & mask;
+        times[newest] = time;
+        xs[newest] = x;
+        ys[newest] = y;
+        rotations[newest] = rotation;
+        size = Math.min(size + 1, times.length);
+    }
+
+    /**
+     * Advances the playback clock by a tick and samples the transform at the new playback time
+     *
+     * @param dt Length of the tick (Seconds)
+     * @return True if there is anything to sample
+     */
+    public boolean advance(double dt) {
+        if (size == 0)
+            return false;
+
+        // Follow the sender's clock, snap if it's way off (ie. the first snapshot)
+        double target = times[newest] - delay;
+        if (Double.isNaN(playbackTime) || Math.abs(target - playbackTime) > Math.max(delay, dt) * 2)
+            playbackTime = target;
+        else
+            playbackTime += dt + (target - playbackTime) * catchUpRate;
+
+        sample(playbackTime);
+        return true;
+    }
+
+    /**
+     * Samples the transform at the given time
+     *
+     * @param time Sender's time (Seconds)
+     */
+    private void sample(double time) {
+        int index = newest;
+
+        // Past the newest snapshot, extrapolate (For a limited time)
+        if (time >= times[index]) {
+            if (size == 1) {
+                set(index, index, 0);
+                return;
+            }
+
+            int previous = (index - 1) & mask;
+            double span = times[index] - times[previous];
+            double ahead = Math.min(time - times[index], maxExtrapolation);
+            set(previous, index, 1 + ahead / span);
+            return;
+        }
+
+        // Find the two snapshots around the time
+        for (int i = 1; i < size; i++) {
+            int previous = (index - 1) & mask;
+            if (times[previous] <= time) {
+                set(previous, index, (time - times[previous]) / (times[index] - times[previous]));
+                return;
+            }
+            index = previous;
+        }
+
+        set(index, index, 0);   // Before the oldest snapshot
+    }
+
+    /**
+     * Blends two snapshots
+     *
+     * @param from Index of the first snapshot
+     * @param to   Index of the second snapshot
+     * @param t    Blend factor (0 is the first snapshot, 1 is the second, above 1 extrapolates)
+     */
+    private void set(int from, int to, double t) {
+        x = xs[from] + (xs[to] - xs[from]) * t;
+        y = ys[from] + (ys[to] - ys[from]) * t;
+        rotation = rotations[from] + (rotations[to] - rotations[from]) * t;
+    }
+
+    /**
+     * Setter
+     *
+     * @param delay Playback delay (Seconds)
+     */
+    public void setDelay(double delay) {
+        this.delay = delay;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Playback clock (Sender's clock in seconds, NaN until the first snapshot)
+     */
+    public double getPlaybackTime() {
+        return playbackTime;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Sampled X-Axis
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Sampled Y-Axis
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Sampled rotation (Radiant)
+     */
+    public double getRotation() {
+        return rotation;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.company.Network;
+
+/**
+ * Imports
+ */
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+
+/**
+ * Transport interface
+ * <p>A transport moves datagrams between the peers of a game. The game only ever talks to this interface, so the real
+ * network (See DatagramTransport) can be swapped with an in-memory one (See LoopbackTransport)</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public interface Transport extends Closeable {
+
+    /**
+     * Sends a datagram
+     *
+     * @param message Message (From its position up to its limit)
+     * @param target  Receiver's address (Null to send to the whole group)
+     * @throws IOException If the datagram could not be sent
+     */
+    void send(ByteBuffer message, SocketAddress target) throws IOException;
+
+    /**
+     * Waits for a datagram
+     * <p>The buffer is cleared, filled with the datagram and flipped, so it is ready to be decoded</p>
+     *
+     * @param buffer  Buffer to receive into
+     * @param timeout Maximum wait (Milliseconds)
+     * @return Sender's address (Null if nothing arrived in time, or the transport has been closed)
+     * @throws IOException If the transport failed
+     */
+    SocketAddress receive(ByteBuffer buffer, long timeout) throws IOException;
+
+    /**
+     * Indicates whether the transport is open or not
+     *
+     * @return Open status
+     */
+    boolean isOpen();
+
+    /**
+     * Closes the transport (Wakes up any thread waiting in receive)
+     */
+    @Override
+    void close();
+}
\ No newline at end of file
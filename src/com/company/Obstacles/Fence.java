@@ -5,11 +5,10 @@ package com.company.Obstacles;
  */
 import com.company.TextureReference;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
-import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * HorizontalWall class
@@ -20,11 +19,19 @@ import java.io.File;
  */
 public class Fence extends Obstacle {
 
+    /**
+     * Pre-scaled fence icons shared by all fences (One per orientation)
+     */
+    private final static Map<String, BufferedImage> scaledIcons = new ConcurrentHashMap<>();
+
     /**
      * Variables, Objects, Components, ...
      */
-    private BufferedImage icon = null;
-    private final double scale = 0.6;
+    private final static double scale = 0.6;
+    private final String iconName;              // Icon texture name (By orientation)
+    private BufferedImage icon;                 // Shared pre-scaled icon (Loaded on first draw. Never draw onto it!)
+    private int iconX, iconY;                   // Where the icon is drawn
+    private int mapRow = -1, mapColumn = -1;    // Cell of the map file the fence stands on (-1 if unknown)
 
     /**
      * Object Constructor
@@ -38,38 +45,99 @@ public class Fence extends Obstacle {
      */
     public Fence(int x, int y, int width, int height, Color color, boolean isPassThrough) {
         super(x, y, width, height, color, isPassThrough);
+
+        // Resolve orientation once (The icon is loaded on first draw)
+        this.iconName = width > height ? "fenceHorizontal" : "fenceVertical";
     }
 
     /**
-     * Draws the fence
+     * Renders the fence
      *
      * @param g2d Graphics2D
      */
-    public void draw(Graphics2D g2d) {
-
-        AffineTransform at = new AffineTransform();
-
-        if (this.width > this.height) {
-            // Load Image
-            try {
-                this.icon = ImageIO.read(new File(TextureReference.getPath("fenceHorizontal")));
-            } catch (Exception ex) {
-                ex.printStackTrace();
-            }
-
-            at.translate(this.x + (64 - this.icon.getWidth() * this.scale) / 2, this.y - 3);
-        } else if (this.width < this.height) {
-            // Load Image
-            try {
-                this.icon = ImageIO.read(new File(TextureReference.getPath("fenceVertical")));
-            } catch (Exception ex) {
-                ex.printStackTrace();
-            }
-
-            at.translate(this.x - 3, this.y + (64 - this.icon.getHeight() * this.scale) / 2);
+    public void render(Graphics2D g2d) {
+        if (this.icon == null && !loadIcon())
+            return;
+
+        g2d.drawImage(this.icon, this.iconX, this.iconY, null);
+    }
+
+    /**
+     * Loads the icon & places it on the fence
+     *
+     * @return False if the icon cannot be loaded
+     */
+    private boolean loadIcon() {
+        this.icon = getScaledIcon(iconName);
+        if (this.icon == null)
+            return false;
+
+        if (width > height) {
+            this.iconX = this.x + (64 - this.icon.getWidth()) / 2;
+            this.iconY = this.y - 3;
+        } else {
+            this.iconX = this.x - 3;
+            this.iconY = this.y + (64 - this.icon.getHeight()) / 2;
         }
+        return true;
+    }
 
-        at.scale(this.scale, this.scale);
-        g2d.drawImage(icon, at, null);
+    /**
+     * Setter
+     *
+     * @param mapRow    Row of the map file the fence stands on (See ObstacleGenerator.map)
+     * @param mapColumn Column of the map file the fence stands on
+     */
+    public void setMapCell(int mapRow, int mapColumn) {
+        this.mapRow = mapRow;
+        this.mapColumn = mapColumn;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Row of the map file the fence stands on (-1 if unknown)
+     */
+    public int getMapRow() {
+        return mapRow;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Column of the map file the fence stands on (-1 if unknown)
+     */
+    public int getMapColumn() {
+        return mapColumn;
+    }
+
+    /**
+     * Returns the pre-scaled icon, scaling it only the first time it is requested
+     *
+     * @param texture Texture name
+     * @return Scaled icon (Null if the texture cannot be loaded)
+     */
+    private static BufferedImage getScaledIcon(String texture) {
+        BufferedImage scaled = scaledIcons.get(texture);
+        if (scaled != null)
+            return scaled;
+
+        try {
+            BufferedImage icon = TextureReference.getTexture(texture);
+
+            int width = (int) Math.round(icon.getWidth() * scale), height = (int) Math.round(icon.getHeight() * scale);
+
+            scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = scaled.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.drawImage(icon, 0, 0, width, height, null);
+            g2d.dispose();
+
+            BufferedImage cached = scaledIcons.putIfAbsent(texture, scaled);
+            return cached != null ? cached : scaled;
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            return null;
+        }
     }
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ public class Obstacle {
     protected Color color;                        // Obstacle's Color
     protected int health;                         // Obstacle's Health (In case it is destructible)
     protected boolean isPassThrough;              // Can be passed through or not
+    int queryStamp;                               // Last ObstacleGrid query that returned this obstacle
 
     /**
      * Object Constructor
@@ -32,6 +32,8 @@ public class ObstacleGenerator {
     public static int MAP_ROW_COUNT, MAP_COLUMN_COUNT;                                                 // Maps' dimensions
     public static List<Obstacle> passThroughObstacles = new ArrayList<>();
     public static List<Obstacle> obstacles = new ArrayList<>();
+    public static ObstacleGrid grid;                                                                   // Spatial index of the obstacles
+    public static Point origin = new Point();                                                          // Top-left corner of the map (Replicated to the clients of a dedicated server)
 
     /**
      * This method generates the visual map from map file
@@ -39,6 +41,45 @@ public class ObstacleGenerator {
      * @param fileName Map file path
      */
     public static List<Obstacle> generateObstacles(List<Tile> tiles, String fileName) {
+        return generateObstacles(tiles, fileName, Toolkit.getDefaultToolkit().getScreenSize());
+    }
+
+    /**
+     * This method generates the visual map from map file
+     * <p>Note that the map is centered on the given screen. Without a screen (ie. headless mode), the map starts at
+     * the origin</p>
+     *
+     * @param fileName   Map file path
+     * @param screenSize Screen size (Null if there is no screen)
+     */
+    public static List<Obstacle> generateObstacles(List<Tile> tiles, String fileName, Dimension screenSize) {
+        return generateObstacles(tiles, fileName, screenSize, null, null);
+    }
+
+    /**
+     * This method generates the visual map from map file, as laid out by someone else (ie. the dedicated server)
+     *
+     * @param fileName Map file path
+     * @param origin   Top-left corner of the map
+     * @param fences   Cells of the map file holding a fence (Indexed like the map)
+     */
+    public static List<Obstacle> generateObstacles(List<Tile> tiles, String fileName, Point origin, boolean[][] fences) {
+        return generateObstacles(tiles, fileName, null, origin, fences);
+    }
+
+    /**
+     * This method generates the visual map from map file
+     *
+     * @param fileName   Map file path
+     * @param screenSize Screen size the map is centered on (Null if there is no screen)
+     * @param origin     Top-left corner of the map (Null to center it)
+     * @param fences     Cells of the map file holding a fence (Null to place them randomly)
+     */
+    private static List<Obstacle> generateObstacles(List<Tile> tiles, String fileName, Dimension screenSize, Point origin, boolean[][] fences) {
+
+        // Each map starts with no obstacles
+        passThroughObstacles = new ArrayList<>();
+        obstacles = new ArrayList<>();
 
         try {
             // Initialize scanners
@@ -58,21 +99,26 @@ public class ObstacleGenerator {
             for (int i = 0; i < lineCount; i++)
                 System.arraycopy(sc.nextLine().split("(?!^)"), 0, map[i], 0, lineLength);
 
-            // Get screen size
-            Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
-            double width = screenSize.getWidth(), height = screenSize.getHeight();
-
             // Set game frame dimensions
             GameFrame.GAME_WIDTH = calMapScale(lineLength, 64, 4);
             GameFrame.GAME_HEIGHT = calMapScale(lineCount, 64, 4);
 
+            // Get screen size
+            double width = screenSize != null ? screenSize.getWidth() : GameFrame.GAME_WIDTH;
+            double height = screenSize != null ? screenSize.getHeight() : GameFrame.GAME_HEIGHT;
+
             // Initialize paint properties
             int smallGap = 4, largeScale = 64, smallScale = 4, scale = largeScale + smallScale;
             int xStart = (int) (Math.abs(width - calMapScale(lineLength, largeScale, smallScale)) / 2), yStart = (int) (Math.abs(height - calMapScale(lineCount, largeScale, smallScale)) / 2);
+            if (origin != null) {
+                xStart = origin.x;
+                yStart = origin.y;
+            }
+            ObstacleGenerator.origin = new Point(xStart, yStart);
 
             for (int i = 0; i < lineCount; i++) {
                 for (int j = 0; j < lineLength; j++) {
-                    int random = new Random().nextInt(100);
+                    boolean isFence = fences != null ? fences[i][j] : new Random().nextInt(100) <= 5;
 
                     // Obstacle obj
                     Obstacle obstacle = null;
@@ -80,17 +126,21 @@ public class ObstacleGenerator {
                     if (i % 2 == 0 && j % 2 == 0)  // Corner
                         obstacle = new Corner((j / 2) * scale + xStart, (i / 2) * scale + yStart, smallScale, smallScale, cornerColor, false);
                     else if (i % 2 == 0) {            // Horizontal wall
-                        if (random <= 5 && map[i][j].equals("0")) {
-                            obstacles.add(new Fence((j / 2) * scale + smallGap + xStart, (i / 2) * scale + yStart,
+                        if (isFence && map[i][j].equals("0")) {
+                            Fence fence = new Fence((j / 2) * scale + smallGap + xStart, (i / 2) * scale + yStart,
                                     largeScale,
-                                    smallScale, wallColor, true));
+                                    smallScale, wallColor, true);
+                            fence.setMapCell(i, j);
+                            obstacles.add(fence);
                         }
                         obstacle = new HorizontalWall((j / 2) * scale + smallGap + xStart , (i / 2) * scale + yStart,
                                 largeScale, smallScale, wallColor, false);
                     } else if (j % 2 == 0) {          // Vertical wall
-                        if (random <= 5 && map[i][j].equals("0")) {
-                            obstacles.add(new Fence((j / 2) * scale + xStart, (i / 2) * scale + smallGap + yStart,
-                                    smallScale, largeScale, wallColor, true));
+                        if (isFence && map[i][j].equals("0")) {
+                            Fence fence = new Fence((j / 2) * scale + xStart, (i / 2) * scale + smallGap + yStart,
+                                    smallScale, largeScale, wallColor, true);
+                            fence.setMapCell(i, j);
+                            obstacles.add(fence);
                         }
                         obstacle = new VerticalWall((j / 2) * scale + xStart, (i / 2) * scale + smallGap + yStart,
                                 smallScale, largeScale, wallColor, false);
@@ -110,6 +160,11 @@ public class ObstacleGenerator {
             }
 
             defineTileDirection(tiles);
+
+            // Index the obstacles on the maze's cells
+            grid = new ObstacleGrid(xStart, yStart, scale, lineLength / 2 + 1, lineCount / 2 + 1);
+            for (Obstacle obstacle : obstacles)
+                grid.add(obstacle);
         } catch (Exception exception) {
             exception.printStackTrace();
         }
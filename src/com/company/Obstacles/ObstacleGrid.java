@@ -0,0 +1,137 @@
+package com.company.Obstacles;
+
+/**
+ * Imports
+ */
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ObstacleGrid class
+ * <p>This class is a static spatial index of the obstacles, keyed on the maze's own cell layout (A tile plus a wall,
+ * ie. 64 + 4 px). Each obstacle is kept in every cell its bounds touch, so looking up the obstacles near an entity
+ * costs the same on any map size</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class ObstacleGrid {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    private final int originX, originY;         // Top-left corner of the first cell
+    private final int cellSize;                 // Width & height of each cell
+    private final int columns, rows;            // Number of cells
+    private final List<Obstacle>[] cells;       // Obstacles of each cell (Row by row)
+    private int stamp;                          // Query stamp, so obstacles spanning multiple cells are returned once
+
+    /**
+     * Object Constructor
+     *
+     * @param originX  X-Axis of the first cell
+     * @param originY  Y-Axis of the first cell
+     * @param cellSize Width & height of each cell
+     * @param columns  Number of columns
+     * @param rows     Number of rows
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ObstacleGrid(int originX, int originY, int cellSize, int columns, int rows) {
+        this.originX = originX;
+        this.originY = originY;
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, columns);
+        this.rows = Math.max(1, rows);
+        this.cells = new List[this.columns * this.rows];
+
+        for (int i = 0; i < cells.length; i++)
+            cells[i] = new ArrayList<>(4);
+    }
+
+    /**
+     * Adds the obstacle to every cell its bounds touch
+     *
+     * @param obstacle Obstacle
+     */
+    public void add(Obstacle obstacle) {
+        int fromColumn = getColumn(obstacle.getX()), toColumn = getColumn(obstacle.getX() + obstacle.getWidth());
+        int fromRow = getRow(obstacle.getY()), toRow = getRow(obstacle.getY() + obstacle.getHeight());
+
+        for (int i = fromRow; i <= toRow; i++)
+            for (int j = fromColumn; j <= toColumn; j++)
+                cells[i * columns + j].add(obstacle);
+    }
+
+    /**
+     * Removes the obstacle from the index (ie. when a fence is destroyed)
+     *
+     * @param obstacle Obstacle
+     */
+    public void remove(Obstacle obstacle) {
+        int fromColumn = getColumn(obstacle.getX()), toColumn = getColumn(obstacle.getX() + obstacle.getWidth());
+        int fromRow = getRow(obstacle.getY()), toRow = getRow(obstacle.getY() + obstacle.getHeight());
+
+        for (int i = fromRow; i <= toRow; i++)
+            for (int j = fromColumn; j <= toColumn; j++)
+                cells[i * columns + j].remove(obstacle);
+    }
+
+    /**
+     * Collects the obstacles in the cells touched by the given bounds
+     * <p>Note that the result is a superset of the colliding obstacles; the exact test is left to the caller. The
+     * given list is cleared & reused, so no garbage is made per query</p>
+     *
+     * @param x      X-Axis
+     * @param y      Y-Axis
+     * @param width  Width
+     * @param height Height
+     * @param result List to fill
+     * @return The given list
+     */
+    public List<Obstacle> query(int x, int y, int width, int height, List<Obstacle> result) {
+        result.clear();
+        stamp++;
+
+        int fromColumn = getColumn(x), toColumn = getColumn(x + width);
+        int fromRow = getRow(y), toRow = getRow(y + height);
+
+        for (int i = fromRow; i <= toRow; i++)
+            for (int j = fromColumn; j <= toColumn; j++)
+                for (Obstacle obstacle : cells[i * columns + j])
+                    if (obstacle.queryStamp != stamp) {
+                        obstacle.queryStamp = stamp;
+                        result.add(obstacle);
+                    }
+
+        return result;
+    }
+
+    /**
+     * Returns the column of the given X-Axis (Clamped to the grid)
+     *
+     * @param x X-Axis
+     * @return Column index
+     */
+    private int getColumn(int x) {
+        return Math.max(0, Math.min(columns - 1, Math.floorDiv(x - originX, cellSize)));
+    }
+
+    /**
+     * Returns the row of the given Y-Axis (Clamped to the grid)
+     *
+     * @param y Y-Axis
+     * @return Row index
+     */
+    private int getRow(int y) {
+        return Math.max(0, Math.min(rows - 1, Math.floorDiv(y - originY, cellSize)));
+    }
+
+    /**
+     * Getter
+     *
+     * @return Width & height of each cell
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+}
\ No newline at end of file
@@ -4,143 +4,121 @@ package com.company.PathFinding;
  * Imports
  */
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * This class finds the shortest, fastest possible way between the two nodes (If any exist)
+ * <p>The map is flattened once into a grid of nodes (Cell (i, j) is node i * rows + j). A search works on primitive
+ * arrays only: the open set is a binary heap indexed by node, so a node's cost is lowered in place, and the scores &
+ * the closed set are stamped with the search's generation, so nothing is cleared or allocated between two searches</p>
+ *
+ * <p>Each thread searches with a context of its own, so an AStar object can be shared by all threads (The grid is never
+ * modified). The contexts outlive the AStar objects, so a thread keeps its scratch arrays when the map is replaced</p>
  *
  * @author Keivan Ipchi Hagh
- * @version 0.1.4
+ * @version 0.2.0
  */
 public class AStar {
 
     /**
-     * Indicates a list that contains cells which have not been searched yet
-     */
-    private static List<Cell> openSet;
-    /**
-     * Map of the game, but with different datatype
+     * Value of each node (Only the nodes of value 0 can be walked on, see ObstacleGenerator)
      */
-    private static Cell[][] map;
+    private final int[] grid;
     /**
-     * Indicates a list that contains cells that have been already searched
+     * Dimensions of the map
      */
-    private static List<Cell> closedSet;
+    private final int cols, rows;
     /**
-     * Indicates a list that contains cells that form a non-diagonal path
+     * Search context of each thread (Shared by all maps, grown for larger ones)
      */
-    private static List<Cell> path;
-    /**
-     * Starting and Ending cell for our A* search algorithm
-     */
-    private static Cell start, end;
+    private final static ThreadLocal<SearchContext> contexts = new ThreadLocal<>();
 
     /**
-     * Indicates the maximum number of cells to search in order to find the optimal path. This variable poses a potential
-     * risk of not being able to find the best possible destination. However, knowing that the best possible destination
-     * must be reached by searching fewer number of cells than <i>maxCycleIndex</i>, we are guaranteed that risk is minimum.
+     * Object Constructor
+     *
+     * @param map Map of the game (ie. ObstacleGenerator.getMap())
      */
-    private static int maxCycleIndex;
+    public AStar(int[][] map) {
+        this.cols = map.length;
+        this.rows = map[0].length;
+        this.grid = new int[cols * rows];
+        for (int i = 0; i < cols; i++)
+            System.arraycopy(map[i], 0, grid, i * rows, rows);
+    }
 
     /**
-     * Get Shortest Path Method
+     * Find Path Method
      * <p>Core A* search algorithm</p>
      *
-     * @param fromX Indicates the starting point x coordinate
-     * @param fromY Indicates the starting point y coordinate
-     * @param toX   Indicates the destination x coordinate
-     * @param toY   Indicates the destination y coordinate
-     * @return The shortest possible list of cells that form a none-diagonal path
+     * @param fromX         Indicates the starting point x coordinate
+     * @param fromY         Indicates the starting point y coordinate
+     * @param toX           Indicates the destination x coordinate
+     * @param toY           Indicates the destination y coordinate
+     * @param maxCycleIndex Maximum number of cells to search before giving up
+     * @param path          Filled with the nodes of the path, starting point first (See getX & getY). May be null, or
+     *                      shorter than the path, in which case only its beginning is filled
+     * @return Number of cells of the shortest none-diagonal path (0 if there is none)
      */
-    public static List<Cell> getShortestPath(int fromX, int fromY, int toX, int toY, String[][] intMap, int cols, int rows, int maxCycleIndex) {
+    public int findPath(int fromX, int fromY, int toX, int toY, int maxCycleIndex, int[] path) {
+        if (!isInside(fromX, fromY) || !isInside(toX, toY))
+            return 0;
 
-        map = new Cell[cols][rows];
-        for (int i = 0; i < cols; i++)
-            for (int j = 0; j < rows; j++)
-                map[i][j] = new Cell(i, j, Integer.parseInt(intMap[i][j]));
-
-        // Add Neighbors For Each Cell
-        for (int i = 0; i < cols; i++)
-            for (int j = 0; j < rows; j++)
-                map[i][j].addNeighbors(map);
+        int start = fromX * rows + fromY, end = toX * rows + toY;
+        SearchContext context = contexts.get();
+        if (context == null || context.g.length < grid.length) {
+            context = new SearchContext(grid.length);
+            contexts.set(context);
+        }
+        context.begin();
+        context.open(start, 0, -1, heuristic(start, end));
 
-        // Initialize Sets & Path
-        openSet = new ArrayList<>();
-        closedSet = new ArrayList<>();
+        int cycleIndex = 0;
 
-        // Set Starting & Ending Point
-        start = map[fromX][fromY];
-        end = map[toX][toY];
+        // Search For Some Cycles, Then Give Up And Move On
+        while (context.heapSize > 0 && ++cycleIndex < maxCycleIndex) {
 
-        // Add Starting Point To OpenSet
-        openSet.add(start);
+            // Take The Cell With The Smallest F() In The OpenSet
+            int current = context.poll();
 
-        path = new ArrayList<>();
+            // Check If We Have Reached Destination
+            if (current == end)
+                return context.trace(end, path);
 
-        int cycleIndex = 0;
+            context.closed[current] = context.generation;
 
-        // Search For Some Cycles, Then Give Up And Move On
-        while (++cycleIndex < maxCycleIndex) {
-
-            // If Cells Still Exist In OpenSet
-            if (openSet.size() > 0) {
-
-                // Find The Cell With The Smallest F() In The OpenSet
-                int index = 0;
-                for (int i = 0; i < openSet.size(); i++)
-                    if (openSet.get(i).f < openSet.get(index).f)
-                        index = i;
-
-                // Rename The Selected Cell
-                Cell current = openSet.get(index);
-
-                // Check If We Have Reached Destination
-                if (current == end) {
-                    // BackTrace Path
-                    Cell temp = current;    // Copy To Avoid Changes In Primary Cell
-                    path.add(end);
-                    while (temp.previous != null) {
-                        path.add(temp.previous);
-                        temp = temp.previous;
-                    }
-                    break;
-                }
-
-                // Move Cell From OpenSet To ClosedSet
-                openSet.remove(current);
-                closedSet.add(current);
-
-                // Check For Each Neighbor
-                for (int i = 0; i < current.neighbors.size(); i++) {
-
-                    Cell neighbor = current.neighbors.get(i);   // Get Selected Neighbor
-
-                    // Check Whether Selected Cell Has Been Checked Before Or Not; Also Check If It's Not A Wall!
-                    if (!closedSet.contains(neighbor) && !neighbor.isWall) {
-                        int tempG = current.g + 1;  // Increment Is 1, Because We Have Matrix Not Graph
-
-                        // If Selected Cell Is In The OpenSet
-                        if (openSet.contains(neighbor)) {
-                            if (tempG < neighbor.g)
-                                neighbor.g = tempG;
-                        } else {
-                            neighbor.g = tempG;
-                            openSet.add(neighbor);
-                        }
-
-                        // Calculate G(), H() And Overall F()
-                        neighbor.h = heuristic(neighbor, end);  // Calculate The Heuristic between Neighbor & Ending Point
-                        neighbor.f = neighbor.h + neighbor.g;
-                        neighbor.previous = current;    // For BackTracing The Path
-                    }
-                }
-            } else   // If OpenSet Is Empty
-                break;
+            // Check For Each Neighbor (up, down, left, right)
+            int i = current / rows, j = current % rows, g = context.g[current] + 1;
+            if (i < cols - 1)
+                relax(context, current + rows, current, g, end);
+            if (i > 0)
+                relax(context, current - rows, current, g, end);
+            if (j < rows - 1)
+                relax(context, current + 1, current, g, end);
+            if (j > 0)
+                relax(context, current - 1, current, g, end);
         }
+        return 0;
+    }
 
-        Collections.reverse(path);
-        return path;
+    /**
+     * Reaches a neighbor through the current cell, if that's shorter than what has been found so far
+     *
+     * @param context  Search context
+     * @param neighbor Neighbor node
+     * @param current  Current node
+     * @param g        Cost of the path to the neighbor through the current cell
+     * @param end      Destination node
+     */
+    private void relax(SearchContext context, int neighbor, int current, int g, int end) {
+        // Skip the walls & the cells that have been already searched
+        if (grid[neighbor] != 0 || context.closed[neighbor] == context.generation)
+            return;
+
+        if (context.seen[neighbor] != context.generation)
+            context.open(neighbor, g, current, heuristic(neighbor, end));
+        else if (g < context.g[neighbor])
+            context.lower(neighbor, g, current);
     }
 
     /**
@@ -148,11 +126,260 @@ public class AStar {
      * <p>Calculates the taxi-path value. Note: More formulas can be used here, but this method calculates the
      * covered distance not the size of a straight line between starting and ending points!</p>
      *
-     * @param from Indicates the starting point x coordinate
-     * @param to   Indicates the starting point y coordinate
+     * @param from Starting node
+     * @param to   Ending node
      * @return Taxi-Path value
      */
-    private static int heuristic(Cell from, Cell to) {
-        return Math.abs(from.i - to.i) + Math.abs(from.j - to.j);   // Taxi-Path Distance
+    private int heuristic(int from, int to) {
+        return Math.abs(from / rows - to / rows) + Math.abs(from % rows - to % rows);   // Taxi-Path Distance
+    }
+
+    /**
+     * Indicates whether a cell is on the map or not
+     *
+     * @param i Cell's x coordinate
+     * @param j Cell's y coordinate
+     * @return Inside status
+     */
+    private boolean isInside(int i, int j) {
+        return i >= 0 && i < cols && j >= 0 && j < rows;
+    }
+
+    /**
+     * Getter
+     *
+     * @param node Node
+     * @return Cell's x coordinate
+     */
+    public int getX(int node) {
+        return node / rows;
+    }
+
+    /**
+     * Getter
+     *
+     * @param node Node
+     * @return Cell's y coordinate
+     */
+    public int getY(int node) {
+        return node % rows;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of nodes (ie. the longest possible path)
+     */
+    public int getNodeCount() {
+        return grid.length;
+    }
+
+    /**
+     * Get Shortest Path Method
+     * <p>Builds the grid on every call, searches that are made more than once should share an AStar object</p>
+     *
+     * @param fromX         Indicates the starting point x coordinate
+     * @param fromY         Indicates the starting point y coordinate
+     * @param toX           Indicates the destination x coordinate
+     * @param toY           Indicates the destination y coordinate
+     * @param intMap        Map file matrix (See ObstacleGenerator.map)
+     * @param cols          Number of columns of the map
+     * @param rows          Number of rows of the map
+     * @param maxCycleIndex Maximum number of cells to search before giving up
+     * @return The shortest possible list of cells that form a none-diagonal path
+     */
+    public static List<Cell> getShortestPath(int fromX, int fromY, int toX, int toY, String[][] intMap, int cols, int rows, int maxCycleIndex) {
+        int[][] map = new int[cols][rows];
+        for (int i = 0; i < cols; i++)
+            for (int j = 0; j < rows; j++)
+                map[i][j] = Integer.parseInt(intMap[i][j]);
+
+        AStar aStar = new AStar(map);
+        int[] nodes = new int[cols * rows];
+        int length = aStar.findPath(fromX, fromY, toX, toY, maxCycleIndex, nodes);
+
+        List<Cell> path = new ArrayList<>(length);
+        for (int k = 0; k < length; k++) {
+            int i = aStar.getX(nodes[k]), j = aStar.getY(nodes[k]);
+            path.add(new Cell(i, j, map[i][j]));
+        }
+        return path;
+    }
+
+    /**
+     * This class holds the state of a search (Reused by the searches of a thread)
+     */
+    private static class SearchContext {
+
+        /**
+         * Cost of the path from the starting point (g), and the estimated total cost (f) of each node
+         */
+        private final int[] g, f;
+        /**
+         * Previous node of each node on its path (For backtracing the path)
+         */
+        private final int[] previous;
+        /**
+         * Generation in which each node has been reached (seen) & searched (closed). Stale stamps mean "not yet"
+         */
+        private final int[] seen, closed;
+        /**
+         * Open set as a binary heap of nodes, and the position of each node in it
+         */
+        private final int[] heap, heapIndex;
+        /**
+         * Number of nodes in the open set
+         */
+        private int heapSize;
+        /**
+         * Generation of the current search
+         */
+        private int generation;
+
+        /**
+         * Object Constructor
+         *
+         * @param size Number of nodes
+         */
+        private SearchContext(int size) {
+            g = new int[size];
+            f = new int[size];
+            previous = new int[size];
+            seen = new int[size];
+            closed = new int[size];
+            heap = new int[size];
+            heapIndex = new int[size];
+        }
+
+        /**
+         * Starts a new search (Every node becomes unseen)
+         */
+        private void begin() {
+            heapSize = 0;
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(seen, 0);
+                Arrays.fill(closed, 0);
+                generation = 1;
+            }
+        }
+
+        /**
+         * Adds a node to the open set
+         *
+         * @param node     Node
+         * @param g        Cost of the path to the node
+         * @param previous Previous node on the path (-1 for the starting point)
+         * @param h        Heuristic of the node
+         */
+        private void open(int node, int g, int previous, int h) {
+            seen[node] = generation;
+            this.g[node] = g;
+            this.f[node] = g + h;
+            this.previous[node] = previous;
+
+            heap[heapSize] = node;
+            heapIndex[node] = heapSize;
+            siftUp(heapSize++);
+        }
+
+        /**
+         * Lowers the cost of a node in the open set (Its heuristic stays the same)
+         *
+         * @param node     Node
+         * @param g        New cost of the path to the node
+         * @param previous New previous node on the path
+         */
+        private void lower(int node, int g, int previous) {
+            f[node] -= this.g[node] - g;
+            this.g[node] = g;
+            this.previous[node] = previous;
+            siftUp(heapIndex[node]);
+        }
+
+        /**
+         * Removes the node with the smallest f() from the open set
+         *
+         * @return Node
+         */
+        private int poll() {
+            int node = heap[0];
+            heap[0] = heap[--heapSize];
+            heapIndex[heap[0]] = 0;
+            siftDown(0);
+            return node;
+        }
+
+        /**
+         * Writes the path to a node
+         *
+         * @param end  Last node of the path
+         * @param path Path holder (May be null or shorter than the path)
+         * @return Length of the path
+         */
+        private int trace(int end, int[] path) {
+            int length = 0;
+            for (int node = end; node != -1; node = previous[node])
+                length++;
+
+            int k = length;
+            for (int node = end; node != -1; node = previous[node])
+                if (path != null && --k < path.length)
+                    path[k] = node;
+            return length;
+        }
+
+        /**
+         * Indicates whether a node is to be searched before another one or not
+         * <p>Ties are broken in favor of the node closer to the destination (ie. the one with the larger g)</p>
+         *
+         * @param a First node
+         * @param b Second node
+         * @return Priority status
+         */
+        private boolean precedes(int a, int b) {
+            return f[a] < f[b] || f[a] == f[b] && g[a] > g[b];
+        }
+
+        /**
+         * Moves a heap entry up until its parent precedes it
+         *
+         * @param index Heap index
+         */
+        private void siftUp(int index) {
+            int node = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >> 1;
+                if (!precedes(node, heap[parent]))
+                    break;
+                heap[index] = heap[parent];
+                heapIndex[heap[index]] = index;
+                index = parent;
+            }
+            heap[index] = node;
+            heapIndex[node] = index;
+        }
+
+        /**
+         * Moves a heap entry down until it precedes its children
+         *
+         * @param index Heap index
+         */
+        private void siftDown(int index) {
+            int node = heap[index];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= heapSize)
+                    break;
+                if (child + 1 < heapSize && precedes(heap[child + 1], heap[child]))
+                    child++;
+                if (!precedes(heap[child], node))
+                    break;
+                heap[index] = heap[child];
+                heapIndex[heap[index]] = index;
+                index = child;
+            }
+            heap[index] = node;
+            heapIndex[node] = index;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.company.PathFinding;
+
+/**
+ * This class is the result of a path search: the cells of a none-diagonal path, starting point first (Immutable, so it
+ * can be shared between threads)
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public final class Path {
+
+    /**
+     * An empty path (ie. there is no way)
+     */
+    public final static Path NONE = new Path(new int[0], new int[0]);
+
+    /**
+     * Coordinates of the cells
+     */
+    private final int[] xs, ys;
+
+    /**
+     * Object Constructor
+     *
+     * @param xs X coordinates of the cells (Owned by the path from now on)
+     * @param ys Y coordinates of the cells (Owned by the path from now on)
+     */
+    Path(int[] xs, int[] ys) {
+        this.xs = xs;
+        this.ys = ys;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of cells (0 if there is no way)
+     */
+    public int getLength() {
+        return xs.length;
+    }
+
+    /**
+     * Getter
+     *
+     * @param index Index of the cell (0 is the starting point)
+     * @return Cell's x coordinate
+     */
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Getter
+     *
+     * @param index Index of the cell (0 is the starting point)
+     * @return Cell's y coordinate
+     */
+    public int getY(int index) {
+        return ys[index];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,277 @@
+package com.company.PathFinding;
+
+/**
+ * Imports
+ */
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PathCache class
+ * <p>This class keeps the most recently used paths in front of a PathfindingService, keyed by their starting & ending
+ * cells. The bots of a maze keep asking for the same few pairs, so once the cache is warm, planning costs a lookup</p>
+ *
+ * <p>When a cell of the map changes (ie. a fence is destroyed), only the paths it may affect are dropped: the ones
+ * passing through it, the ones that could be shortened through it (Its taxi-path detour is shorter than the path), and
+ * the failed searches. The rest are still the shortest ones. Searches that were already running when a cell changed are
+ * not cached</p>
+ *
+ * <p>Every method is thread-safe; the searches themselves run outside the lock</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class PathCache {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    private final PathfindingService service;                   // Searches the missed paths
+    private final Map<Long, Entry> entries;                     // Cached paths by cell pair (Least recently used first)
+    private int epoch;                                          // Number of map changes so far
+    private long hitCount, missCount, invalidatedCount;         // Metrics
+
+    /**
+     * Object Constructor
+     *
+     * @param service  Pathfinding service
+     * @param capacity Maximum number of cached paths (The least recently used one is dropped first)
+     */
+    public PathCache(PathfindingService service, int capacity) {
+        this.service = service;
+        this.entries = new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Finds a path on the caller's thread (Cached if possible)
+     *
+     * @param request Request
+     * @return Path (Path.NONE if there is none)
+     */
+    public Path findPath(PathRequest request) {
+        int epoch;
+        synchronized (this) {
+            Path path = lookup(request);
+            if (path != null)
+                return path;
+            epoch = this.epoch;
+        }
+
+        Path path = service.findPath(request);
+        store(request, path, epoch);
+        return path;
+    }
+
+    /**
+     * Finds the paths of a batch of requests (The cached ones right away, the rest on the service's worker threads)
+     *
+     * @param requests Requests
+     * @return Future of each path (In the order of the requests)
+     */
+    public List<CompletableFuture<Path>> submitAll(List<PathRequest> requests) {
+        List<CompletableFuture<Path>> futures = new ArrayList<>(requests.size());
+        List<PathRequest> missed = new ArrayList<>();
+        List<Integer> missedIndices = new ArrayList<>();
+        int epoch;
+
+        synchronized (this) {
+            for (PathRequest request : requests) {
+                Path path = lookup(request);
+                if (path == null) {
+                    missed.add(request);
+                    missedIndices.add(futures.size());
+                }
+                futures.add(path != null ? CompletableFuture.completedFuture(path) : null);
+            }
+            epoch = this.epoch;
+        }
+
+        if (!missed.isEmpty()) {
+            List<CompletableFuture<Path>> searches = service.submitAll(missed);
+            for (int k = 0; k < missed.size(); k++) {
+                PathRequest request = missed.get(k);
+                futures.set(missedIndices.get(k), searches.get(k).thenApply(path -> {
+                    store(request, path, epoch);
+                    return path;
+                }));
+            }
+        }
+        return futures;
+    }
+
+    /**
+     * Drops the paths a changed cell may affect (See the class)
+     *
+     * @param x Cell's x coordinate (ie. the fence's map row, see AStar)
+     * @param y Cell's y coordinate (ie. the fence's map column)
+     */
+    public synchronized void invalidate(int x, int y) {
+        epoch++;
+
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext())
+            if (iterator.next().isAffectedBy(x, y)) {
+                iterator.remove();
+                invalidatedCount++;
+            }
+    }
+
+    /**
+     * Drops every cached path (ie. a new map)
+     */
+    public synchronized void clear() {
+        epoch++;
+        invalidatedCount += entries.size();
+        entries.clear();
+    }
+
+    /**
+     * Looks up a cached path (Counted as a hit or a miss)
+     *
+     * @param request Request
+     * @return Path (Null if it's not cached)
+     */
+    private Path lookup(PathRequest request) {
+        Entry entry = entries.get(getKey(request));
+
+        // A failed search only answers the searches that would give up sooner
+        if (entry != null && (entry.path.getLength() > 0 || request.getMaxCycleIndex() <= entry.maxCycleIndex)) {
+            hitCount++;
+            return entry.path;
+        }
+        missCount++;
+        return null;
+    }
+
+    /**
+     * Caches a path, unless the map has changed since its search started
+     *
+     * @param request Request
+     * @param path    Path
+     * @param epoch   Number of map changes when the search started
+     */
+    private synchronized void store(PathRequest request, Path path, int epoch) {
+        if (epoch == this.epoch)
+            entries.put(getKey(request), new Entry(request, path));
+    }
+
+    /**
+     * Packs the starting & ending cells of a request (Maps up to 65536 cells a side)
+     *
+     * @param request Request
+     * @return Key
+     */
+    private static long getKey(PathRequest request) {
+        return (request.getFromX() & 0xFFFFL) << 48 | (request.getFromY() & 0xFFFFL) << 32
+                | (request.getToX() & 0xFFFFL) << 16 | (request.getToY() & 0xFFFFL);
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of cached paths
+     */
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of requests answered from the cache so far
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of requests that had to be searched so far
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of paths dropped by map changes so far
+     */
+    public synchronized long getInvalidatedCount() {
+        return invalidatedCount;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Share of the requests answered from the cache (0 if nothing has been requested yet)
+     */
+    public synchronized double getHitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Entry class
+     * <p>This class holds a cached path & the search it came from</p>
+     */
+    private static class Entry {
+
+        /**
+         * Variables, Objects, Components, ...
+         */
+        private final int fromX, fromY, toX, toY;   // Starting & ending cells
+        private final int maxCycleIndex;            // Search budget (Only matters if the search has failed)
+        private final Path path;                    // Path (Path.NONE if there was none)
+
+        /**
+         * Object Constructor
+         *
+         * @param request Request
+         * @param path    Path
+         */
+        private Entry(PathRequest request, Path path) {
+            this.fromX = request.getFromX();
+            this.fromY = request.getFromY();
+            this.toX = request.getToX();
+            this.toY = request.getToY();
+            this.maxCycleIndex = request.getMaxCycleIndex();
+            this.path = path;
+        }
+
+        /**
+         * Indicates whether a change of the given cell may affect the path or not
+         *
+         * @param x Cell's x coordinate
+         * @param y Cell's y coordinate
+         * @return True if the path may be blocked or no longer be the shortest (Or there was no path)
+         */
+        private boolean isAffectedBy(int x, int y) {
+            if (path.getLength() == 0)
+                return true;
+
+            // Shortest possible path through the cell, in steps
+            int steps = path.getLength() - 1;
+            int detour = Math.abs(fromX - x) + Math.abs(fromY - y) + Math.abs(toX - x) + Math.abs(toY - y);
+            if (detour < steps)
+                return true;
+            if (detour > steps)
+                return false;       // Too far to be on the path, or to shorten it
+
+            for (int k = 0; k < path.getLength(); k++)
+                if (path.getX(k) == x && path.getY(k) == y)
+                    return true;
+            return false;
+        }
+    }
+}
\ No newline at end of file
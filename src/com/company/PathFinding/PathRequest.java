@@ -0,0 +1,81 @@
+package com.company.PathFinding;
+
+/**
+ * This class describes a path search (Immutable, so it can be handed to any thread)
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public final class PathRequest {
+
+    /**
+     * Starting and Ending cell of the search
+     */
+    private final int fromX, fromY, toX, toY;
+    /**
+     * Maximum number of cells to search before giving up (See AStar)
+     */
+    private final int maxCycleIndex;
+
+    /**
+     * Object Constructor
+     *
+     * @param fromX         Indicates the starting point x coordinate
+     * @param fromY         Indicates the starting point y coordinate
+     * @param toX           Indicates the destination x coordinate
+     * @param toY           Indicates the destination y coordinate
+     * @param maxCycleIndex Maximum number of cells to search before giving up
+     */
+    public PathRequest(int fromX, int fromY, int toX, int toY, int maxCycleIndex) {
+        this.fromX = fromX;
+        this.fromY = fromY;
+        this.toX = toX;
+        this.toY = toY;
+        this.maxCycleIndex = maxCycleIndex;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Starting point x coordinate
+     */
+    public int getFromX() {
+        return fromX;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Starting point y coordinate
+     */
+    public int getFromY() {
+        return fromY;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Destination x coordinate
+     */
+    public int getToX() {
+        return toX;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Destination y coordinate
+     */
+    public int getToY() {
+        return toY;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Maximum number of cells to search
+     */
+    public int getMaxCycleIndex() {
+        return maxCycleIndex;
+    }
+}
\ No newline at end of file
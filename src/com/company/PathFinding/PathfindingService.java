@@ -0,0 +1,163 @@
+package com.company.PathFinding;
+
+/**
+ * Imports
+ */
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PathfindingService class
+ * <p>This class plans paths on a pool of worker threads, so many bots can plan at once across the cores. The map is
+ * shared by all searches as an immutable AStar (Changing the map swaps in a new one, the searches already running finish
+ * on the old one), and each worker searches with scratch state of its own, kept across the maps (See AStar)</p>
+ *
+ * <p>A batch of requests is split into one chunk per worker, rather than one task per request, and each request gets a
+ * future of its own. Searches may also be run on the caller's thread (See findPath)</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class PathfindingService {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    private volatile AStar aStar;                               // Current map
+    private final ExecutorService executor;                     // Worker threads
+    private final int threads;                                  // Number of worker threads
+    private final ThreadLocal<int[]> nodes;                     // Reused path holder of each thread
+
+    /**
+     * Object Constructor (One worker per core)
+     *
+     * @param map Map of the game (ie. ObstacleGenerator.getMap())
+     */
+    public PathfindingService(int[][] map) {
+        this(map, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Object Constructor
+     *
+     * @param map     Map of the game (ie. ObstacleGenerator.getMap())
+     * @param threads Number of worker threads
+     */
+    public PathfindingService(int[][] map, int threads) {
+        this.threads = Math.max(1, threads);
+        this.aStar = new AStar(map);
+        this.nodes = ThreadLocal.withInitial(() -> new int[aStar.getNodeCount()]);
+
+        AtomicInteger index = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.threads, runnable -> {
+            Thread thread = new Thread(runnable, "Pathfinding-" + index.incrementAndGet());
+            thread.setDaemon(true);     // Never keep the game alive
+            return thread;
+        });
+    }
+
+    /**
+     * Replaces the map (ie. an obstacle has been destroyed)
+     * <p>The new map is copied, so the caller may keep modifying its own. The workers keep their scratch state</p>
+     *
+     * @param map Map of the game
+     */
+    public void setMap(int[][] map) {
+        this.aStar = new AStar(map);
+    }
+
+    /**
+     * Finds a path on the caller's thread
+     *
+     * @param request Request
+     * @return Path (Path.NONE if there is none)
+     */
+    public Path findPath(PathRequest request) {
+        AStar aStar = this.aStar;
+
+        int[] nodes = this.nodes.get();
+        if (nodes.length < aStar.getNodeCount()) {
+            nodes = new int[aStar.getNodeCount()];
+            this.nodes.set(nodes);
+        }
+
+        int length = aStar.findPath(request.getFromX(), request.getFromY(), request.getToX(), request.getToY(),
+                request.getMaxCycleIndex(), nodes);
+        if (length == 0)
+            return Path.NONE;
+
+        int[] xs = new int[length], ys = new int[length];
+        for (int k = 0; k < length; k++) {
+            xs[k] = aStar.getX(nodes[k]);
+            ys[k] = aStar.getY(nodes[k]);
+        }
+        return new Path(xs, ys);
+    }
+
+    /**
+     * Finds a path on a worker thread
+     *
+     * @param request Request
+     * @return Future of the path
+     */
+    public CompletableFuture<Path> submit(PathRequest request) {
+        List<PathRequest> requests = new ArrayList<>(1);
+        requests.add(request);
+        return submitAll(requests).get(0);
+    }
+
+    /**
+     * Finds the paths of a batch of requests on the worker threads
+     *
+     * @param requests Requests (Copied, so the caller may reuse the list)
+     * @return Future of each path (In the order of the requests)
+     */
+    public List<CompletableFuture<Path>> submitAll(List<PathRequest> requests) {
+        List<PathRequest> batch = new ArrayList<>(requests);
+        int count = batch.size();
+        List<CompletableFuture<Path>> futures = new ArrayList<>(count);
+        for (int k = 0; k < count; k++)
+            futures.add(new CompletableFuture<>());
+
+        int chunkSize = (count + threads - 1) / threads;
+        for (int from = 0; from < count; from += chunkSize) {
+            int start = from, end = Math.min(count, from + chunkSize);
+            try {
+                executor.execute(() -> {
+                    for (int k = start; k < end; k++)
+                        try {
+                            futures.get(k).complete(findPath(batch.get(k)));
+                        } catch (Exception e) {
+                            futures.get(k).completeExceptionally(e);
+                        }
+                });
+            } catch (RejectedExecutionException e) {
+                // The service has been shut down
+                for (int k = start; k < end; k++)
+                    futures.get(k).completeExceptionally(e);
+            }
+        }
+        return futures;
+    }
+
+    /**
+     * Stops the worker threads (The searches already submitted are finished)
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of worker threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+}
\ No newline at end of file
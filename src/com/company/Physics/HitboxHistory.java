@@ -0,0 +1,82 @@
+package com.company.Physics;
+
+/**
+ * HitboxHistory class
+ * <p>This class remembers where a tank was over the last few ticks, in a fixed-size ring. The server uses it for lag
+ * compensation: the explosives of a client are tested against the tanks where that client saw them (ie. a few ticks in
+ * the past), instead of where they are now</p>
+ *
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class HitboxHistory {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    private final int[] ticks, xs, ys;      // Recorded ticks & tank locations (Ring)
+    private final int mask;                 // Capacity - 1
+    private int newest = -1, size;          // Index of the newest record & number of records
+
+    /**
+     * Object Constructor
+     *
+     * @param capacity Number of ticks to remember (Rounded up to a power of two)
+     */
+    public HitboxHistory(int capacity) {
+        int length = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+
+        this.ticks = new int[length];
+        this.xs = new int[length];
+        this.ys = new int[length];
+        this.mask = length - 1;
+    }
+
+    /**
+     * Records the location of the tank on a tick (The oldest record is overwritten once full)
+     *
+     * @param tick Tick
+     * @param x    Tank's X-Axis
+     * @param y    Tank's Y-Axis
+     */
+    public void record(int tick, int x, int y) {
+        newest = (newest + 1) & mask;
+        ticks[newest] = tick;
+        xs[newest] = x;
+        ys[newest] = y;
+        size = Math.min(size + 1, ticks.length);
+    }
+
+    /**
+     * Finds the record of a tick
+     *
+     * @param tick Tick
+     * @return Index of the newest record at or before the tick (The oldest one if the tick is too old, -1 if empty)
+     */
+    public int find(int tick) {
+        int index = newest;
+        for (int i = 1; i < size && ticks[index] - tick > 0; i++)
+            index = (index - 1) & mask;
+        return size > 0 ? index : -1;
+    }
+
+    /**
+     * Getter
+     *
+     * @param index Record index (See find)
+     * @return Recorded X-Axis
+     */
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Getter
+     *
+     * @param index Record index (See find)
+     * @return Recorded Y-Axis
+     */
+    public int getY(int index) {
+        return ys[index];
+    }
+}
\ No newline at end of file
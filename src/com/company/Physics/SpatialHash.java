@@ -0,0 +1,168 @@
+package com.company.Physics;
+
+/**
+ * Imports
+ */
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SpatialHash class
+ * <p>This class is a dynamic spatial index for moving game objects (ie. tanks, explosives & care packages). The plane
+ * is split into square cells which are hashed into a fixed number of buckets, so the arena size does not matter. The
+ * hash is meant to be cleared & refilled every tick; entries are kept in flat arrays that only grow, so a rebuild makes
+ * no garbage</p>
+ *
+ * @param <T> Type of the indexed objects
+ * @author Keivan Ipchi Hagh & Bardia Ardakanian
+ * @version 0.1.0
+ */
+public class SpatialHash<T> {
+
+    /**
+     * Variables, Objects, Components, ...
+     */
+    private final int cellSize;                 // Width & height of each cell
+    private final int[] heads;                  // First entry of each bucket (-1 if empty)
+    private final int mask;                     // Bucket index mask (Bucket count is a power of two)
+    private int[] next;                         // Next entry in the same bucket
+    private int[] entryItems;                   // Item of each entry
+    private int[] entryCellX, entryCellY;       // Cell of each entry (Buckets are shared by many cells)
+    private int entryCount;                     // Number of entries (An item has one entry per cell it touches)
+    private Object[] items;                     // Indexed items
+    private int[] itemStamps;                   // Last query that returned each item
+    private int itemCount;                      // Number of indexed items
+    private int stamp;                          // Query stamp, so items spanning multiple cells are returned once
+
+    /**
+     * Object Constructor
+     *
+     * @param cellSize    Width & height of each cell
+     * @param bucketCount Number of buckets (Rounded up to a power of two)
+     */
+    public SpatialHash(int cellSize, int bucketCount) {
+        int buckets = Integer.highestOneBit(Math.max(2, bucketCount - 1)) << 1;
+
+        this.cellSize = cellSize;
+        this.heads = new int[buckets];
+        this.mask = buckets - 1;
+        this.next = new int[64];
+        this.entryItems = new int[64];
+        this.entryCellX = new int[64];
+        this.entryCellY = new int[64];
+        this.items = new Object[32];
+        this.itemStamps = new int[32];
+
+        Arrays.fill(heads, -1);
+    }
+
+    /**
+     * Removes all of the items
+     */
+    public void clear() {
+        Arrays.fill(heads, -1);
+        Arrays.fill(items, 0, itemCount, null);     // Don't keep the disposed objects alive
+        entryCount = 0;
+        itemCount = 0;
+    }
+
+    /**
+     * Adds the item to every cell its bounds touch
+     *
+     * @param item   Item
+     * @param x      X-Axis
+     * @param y      Y-Axis
+     * @param width  Width
+     * @param height Height
+     */
+    public void insert(T item, int x, int y, int width, int height) {
+        if (itemCount == items.length) {
+            items = Arrays.copyOf(items, itemCount * 2);
+            itemStamps = Arrays.copyOf(itemStamps, itemCount * 2);
+        }
+
+        int index = itemCount++;
+        items[index] = item;
+        itemStamps[index] = stamp;
+
+        int fromX = Math.floorDiv(x, cellSize), toX = Math.floorDiv(x + width, cellSize);
+        int fromY = Math.floorDiv(y, cellSize), toY = Math.floorDiv(y + height, cellSize);
+
+        for (int cellY = fromY; cellY <= toY; cellY++)
+            for (int cellX = fromX; cellX <= toX; cellX++) {
+                if (entryCount == next.length)
+                    growEntries();
+
+                int entry = entryCount++, bucket = hash(cellX, cellY);
+                entryItems[entry] = index;
+                entryCellX[entry] = cellX;
+                entryCellY[entry] = cellY;
+                next[entry] = heads[bucket];
+                heads[bucket] = entry;
+            }
+    }
+
+    /**
+     * Collects the items in the cells touched by the given bounds
+     * <p>Note that the result is a superset of the colliding items; the exact test is left to the caller. The given
+     * list is cleared & reused</p>
+     *
+     * @param x      X-Axis
+     * @param y      Y-Axis
+     * @param width  Width
+     * @param height Height
+     * @param result List to fill
+     * @return The given list
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> query(int x, int y, int width, int height, List<T> result) {
+        result.clear();
+        stamp++;
+
+        int fromX = Math.floorDiv(x, cellSize), toX = Math.floorDiv(x + width, cellSize);
+        int fromY = Math.floorDiv(y, cellSize), toY = Math.floorDiv(y + height, cellSize);
+
+        for (int cellY = fromY; cellY <= toY; cellY++)
+            for (int cellX = fromX; cellX <= toX; cellX++)
+                for (int entry = heads[hash(cellX, cellY)]; entry != -1; entry = next[entry]) {
+                    int index = entryItems[entry];
+                    if (entryCellX[entry] == cellX && entryCellY[entry] == cellY && itemStamps[index] != stamp) {
+                        itemStamps[index] = stamp;
+                        result.add((T) items[index]);
+                    }
+                }
+
+        return result;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of indexed items
+     */
+    public int size() {
+        return itemCount;
+    }
+
+    /**
+     * Hashes the cell into a bucket
+     *
+     * @param cellX Cell's column
+     * @param cellY Cell's row
+     * @return Bucket index
+     */
+    private int hash(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & mask;
+    }
+
+    /**
+     * Doubles the capacity of the entry arrays
+     */
+    private void growEntries() {
+        int capacity = next.length * 2;
+        next = Arrays.copyOf(next, capacity);
+        entryItems = Arrays.copyOf(entryItems, capacity);
+        entryCellX = Arrays.copyOf(entryCellX, capacity);
+        entryCellY = Arrays.copyOf(entryCellY, capacity);
+    }
+}
\ No newline at end of file
@@ -23,9 +23,9 @@ public class Player implements Serializable {
     private final Tank tank;                // Player's tank
     private int deathCount, killCount;      // Player's win/death count indicator
     public boolean isAI;                    // AI indicator
-    private float frameIndex = 0;           // Index of the frame, so tracks are added to Even frame indexes
+    private double trackTimer = 0;          // Default ticks until the next track, so tracks are added every other default tick
     private String teamID;                  // Player's teamID
-    private String playerID;                // Player's ID
+    private long playerID;                  // Player's ID (See IDAllocator)
     public boolean isDead;                  // Player's control indicator
     public boolean exploded;                // This makes the explosion be drawn only once
     public boolean isME;                    // players self indicated (Other's are across the server)
@@ -41,7 +41,7 @@ public class Player implements Serializable {
      * @param explosiveName Player's explosiveName
      * @param isAI          AI indicator
      */
-    Player(String name, String tankName, int x, int y, String teamID, String explosiveName, boolean isAI, String playerID, boolean isME) {
+    Player(String name, String tankName, int x, int y, String teamID, String explosiveName, boolean isAI, long playerID, boolean isME) {
         this.name = name;
         this.deathCount = 0;
         this.killCount = 0;
@@ -61,16 +61,20 @@ public class Player implements Serializable {
      *
      * @param rotation defines the rotation angle
      * @param dir      Direction which the tank is moving towards
+     * @param dt       Length of the tick (Seconds)
      */
-    public void move(int rotation, int dir) {
+    public void move(int rotation, int dir, double dt) {
 
         if (!isDead) {
             // Update tank's location
-            tank.move(rotation, dir);
+            tank.move(rotation, dir, dt);
 
             // Add new track
-            if ((frameIndex++) % 2 == 0)
+            if (trackTimer <= 0) {
                 this.tank.addTrack(new Track(tank.getX(), tank.getY(), tank.getRotation(), tank.getScale()));
+                trackTimer += 2;
+            }
+            trackTimer -= dt * GameLoop.TICK_RATE;
         }
     }
 
@@ -101,13 +105,23 @@ public class Player implements Serializable {
         this.name = name;
     }
 
+    /**
+     * Updates the player's time based effects (ie. tank tracks)
+     *
+     * @param dt Length of the tick (Seconds)
+     */
+    public void update(double dt) {
+        this.tank.update(dt);
+    }
+
     /**
      * Passes Graphics2D to tank object
      *
-     * @param g2d Graphics2D
+     * @param g2d   Graphics2D
+     * @param alpha Interpolation factor between the previous and the current tick
      */
-    public void draw(Graphics2D g2d) {
-        this.tank.draw(g2d, isDead);
+    public void render(Graphics2D g2d, double alpha) {
+        this.tank.render(g2d, isDead, alpha);
     }
 
     /**
@@ -148,7 +162,7 @@ public class Player implements Serializable {
      *
      * @param playerID Player ID
      */
-    public void setPlayerID(String playerID) {
+    public void setPlayerID(long playerID) {
         this.playerID = playerID;
     }
 
@@ -166,7 +180,7 @@ public class Player implements Serializable {
      *
      * @return Player ID
      */
-    public String getPlayerID() {
+    public long getPlayerID() {
         return playerID;
     }
 
@@ -10,11 +10,9 @@ import com.company.Explosives.Missile;
 /**
  * Imports
  */
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -30,21 +28,27 @@ public class Tank {
     /**
      * Variables, Objects, Components, ...
      */
-    protected BufferedImage icon;                             // Tank's icon (Hall and Turret attached)
-    protected BufferedImage backfireIcon;                     // Tank's backfire icon
+    protected BufferedImage icon;                             // Tank's icon (Hall and Turret attached, loaded on first draw)
+    protected String iconName;                                // Tank's icon texture name
+    protected BufferedImage backfireIcon;                     // Tank's backfire icon (Loaded on first draw)
+    protected String backfireIconName;                        // Tank's backfire icon texture name
+    protected final int width, height;                        // Tank's unscaled size (From the texture metadata, used for collisions)
     protected final Color color;                              // Tank's color
 
     protected int thrust = 4;                                 // Tank's thrust power
     protected int x, y;                                       // Tank's X and Y coordinates
-    protected int xVel, yVel;                                 // Tank's x & Y velocity
+    protected int previousX, previousY;                       // Tank's X and Y coordinates on the previous tick
+    protected double previousRotation;                        // Tank's rotation on the previous tick
+    protected int xVel, yVel;                                 // Tank's x & Y velocity (Per default tick)
+    protected double xCarry, yCarry;                          // Sub-pixel movement left over from the previous ticks
     protected int health;                                     // Tank's health
     protected double rotation;                                // Tanks rotation deg (Radiant)
     protected final double rotationSpeed = Math.PI / 40;      // Tank's rotation speed (Radiant)
     protected String explosiveName;                           // Tank's explosive name
     protected final double scale = 0.5d;                      // Tank's scale
     protected int marched;                                    // Tank's march status (Used when stuck)
-    protected final int coolDownSpan = 20;                    // Tank's cool down span after each fire
-    protected int coolDown;                                   // Tank's cool down counter
+    protected final int coolDownSpan = 20;                    // Tank's cool down span after each fire (Default ticks)
+    protected double coolDown;                                // Tank's cool down counter (Default ticks)
     protected String tankName;                                // Tank's name (Used as indicator for its color)
     protected int firePowerCoefficient;                       // Tank's fire power coefficient
     protected int explosiveSpeedCoefficient;                  // Tank's explosive shot coefficient
@@ -67,13 +71,19 @@ public class Tank {
      */
     public Tank(String tankName, int x, int y, String explosiveName) {
 
-        // Load tank's icon
+        // Tank's icon is loaded on first draw (See getIcon)
+        this.iconName = tankName;
+
+        // Load tank's size (Collisions never depend on the decoded icon)
+        Dimension size;
         try {
-            this.icon = ImageIO.read(new File(TextureReference.getPath(tankName)));
+            size = TextureReference.getTextureSize(tankName);
         } catch (Exception ex) {
-            this.icon = null;
+            size = new Dimension(42, 46);
             ex.printStackTrace();
         }
+        this.width = size.width;
+        this.height = size.height;
 
         // Sets the explosive name and backfire icon proper to the explosive
         setExplosiveName(explosiveName);
@@ -82,6 +92,7 @@ public class Tank {
         this.x = x;
         this.y = y;
         this.rotation = 0;                              // Default value (Set afterwards according to tank's surroundings)
+        savePreviousState();
         this.tracks = new ArrayList<>();
         this.health = 100;                              // Default value (Startup value)
         this.coolDown = 0;
@@ -114,33 +125,61 @@ public class Tank {
     }
 
     /**
-     * Draws the tank, tracks and backfire
+     * Renders the tank, tracks and backfire
      * <p>Note that tracks must be drawn before the tank itself in order to seem like real life</p>
      *
-     * @param g2d Graphics2D
+     * @param g2d   Graphics2D
+     * @param alpha Interpolation factor between the previous and the current tick
      */
-    public void draw(Graphics2D g2d, boolean isDead) {
+    public void render(Graphics2D g2d, boolean isDead, double alpha) {
 
         AffineTransform at = new AffineTransform();
 
+        // Interpolate between the previous and the current tick
+        int x = (int) Math.round(this.previousX + (this.x - this.previousX) * alpha);
+        int y = (int) Math.round(this.previousY + (this.y - this.previousY) * alpha);
+        double rotation = this.previousRotation + (this.rotation - this.previousRotation) * alpha;
+
         // Draw tank's track
         for (Track track : tracks)
-            track.draw(g2d);
+            track.render(g2d);
 
         // Reduce opacity when in ghost mode
         if (this.ghost)
             g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) 0.6));
 
         // Draw the tank
-        at.translate(this.x, this.y);                                                                     // Translate icon
-        at.rotate(-Math.PI / 2 + this.rotation);                                                    // Rotate icon (Upward by default)
+        at.translate(x, y);                                                                               // Translate icon
+        at.rotate(-Math.PI / 2 + rotation);                                                         // Rotate icon (Upward by default)
         at.scale(this.scale, this.scale);                                                                 // Scale icon
-        at.translate(-this.icon.getWidth() / (float) 2, -this.icon.getHeight() / (float) 2);      // Translate (Again), for easier rotation around the center
-        g2d.drawImage(this.icon, at, null);                                                          // Draw hall
+        at.translate(-getIcon().getWidth() / (float) 2, -getIcon().getHeight() / (float) 2);      // Translate (Again), for easier rotation around the center
+        g2d.drawImage(getIcon(), at, null);                                                          // Draw hall
 
         // Draw tank's backfire
-        if (this.coolDown > this.coolDownSpan / 2 && !isDead)
-            Backfire.draw(g2d, this.x, this.y, this.rotation, this.scale, backfireIcon);
+        if (this.coolDown > this.coolDownSpan / 2 && !isDead) {
+            if (this.backfireIcon == null)
+                this.backfireIcon = TextureReference.loadTexture(backfireIconName);
+            Backfire.draw(g2d, x, y, rotation, this.scale, backfireIcon);
+        }
+    }
+
+    /**
+     * Ages the tank's tracks
+     *
+     * @param dt Length of the tick (Seconds)
+     */
+    public void update(double dt) {
+        for (Track track : tracks)
+            track.update(dt);
+    }
+
+    /**
+     * Stores the current location & rotation as the previous tick's state (Called at the start of each tick)
+     */
+    public void savePreviousState() {
+        this.previousX = this.x;
+        this.previousY = this.y;
+        this.previousRotation = this.rotation;
     }
 
     /**
@@ -148,25 +187,30 @@ public class Tank {
      *
      * @param rotation Rotation deg
      * @param dir      Direction
+     * @param dt       Length of the tick (Seconds)
      */
-    public void move(int rotation, int dir) {
+    public void move(int rotation, int dir, double dt) {
+        double ticks = dt * GameLoop.TICK_RATE;     // Speeds are tuned per default tick
 
         // Update theta
-        this.rotation += (rotation * this.rotationSpeed);
+        this.rotation += (rotation * this.rotationSpeed * ticks);
 
         // Calculate velocity
         this.xVel = (int) (Math.cos(this.rotation) * this.thrust * dir);
         this.yVel = (int) (Math.sin(this.rotation) * this.thrust * dir);
 
-        // If we are set to move, apply velocity to location
+        // If we are set to move, apply velocity to location (Whole pixels, the rest is carried to the next tick)
         if (dir != 0) {
-            this.x += this.xVel;
-            this.y += this.yVel;
+            double dx = this.xVel * ticks + this.xCarry, dy = this.yVel * ticks + this.yCarry;
+            this.x += (int) dx;
+            this.y += (int) dy;
+            this.xCarry = dx - (int) dx;
+            this.yCarry = dy - (int) dy;
         }
 
         // Cool down step
-        if (this.coolDown != 0)
-            this.coolDown--;   // Timer
+        if (this.coolDown > 0)
+            this.coolDown = Math.max(0, this.coolDown - ticks);   // Timer
     }
 
     /**
@@ -217,20 +261,30 @@ public class Tank {
         boolean collision = false;
 
         if (this.x >= x && this.x <= x + width) {
-            if (this.y <= y + height + this.icon.getHeight() * scale / 2 && this.y >= y + height)
+            if (this.y <= y + height + this.height * scale / 2 && this.y >= y + height)
                 collision = true;
-            else if (this.y >= y - this.icon.getHeight() * scale / 2 && this.y <= y)
+            else if (this.y >= y - this.height * scale / 2 && this.y <= y)
                 collision = true;
         } else if (this.y >= y && this.y <= y + height) {
-            if (this.x >= x + width && this.x <= x + width + this.icon.getWidth() * scale / 2)
+            if (this.x >= x + width && this.x <= x + width + this.width * scale / 2)
                 collision = true;
-            else if (this.x >= x - this.icon.getWidth() * scale / 2 && this.x <= x)
+            else if (this.x >= x - this.width * scale / 2 && this.x <= x)
                 collision = true;
         }
 
         return collision;   // Return collision status
     }
 
+    /**
+     * Returns the area in which the tank may collide with an obstacle (See hasCollision)
+     *
+     * @return Collision bounds
+     */
+    public Rectangle getCollisionBounds() {
+        int width = (int) Math.ceil(this.width * scale / 2), height = (int) Math.ceil(this.height * scale / 2);
+        return new Rectangle(this.x - width, this.y - height, 2 * width, 2 * height);
+    }
+
     /**
      * Indicates whether we have a collision or not
      *
@@ -287,8 +341,8 @@ public class Tank {
         startCoolDown();
 
         // Move just a little bit further the turret
-        int xTemp = (int) (Math.cos(this.rotation) * (this.icon.getWidth() * this.scale / 2)) + this.x;
-        int yTemp = (int) (Math.sin(this.rotation) * (this.icon.getHeight() * this.scale / 2)) + this.y;
+        int xTemp = (int) (Math.cos(this.rotation) * (this.width * this.scale / 2)) + this.x;
+        int yTemp = (int) (Math.sin(this.rotation) * (this.height * this.scale / 2)) + this.y;
 
         int firePowerCoefficient = this.firePowerCoefficient, explosiveSpeedCoefficient = this.explosiveSpeedCoefficient;
         this.firePowerCoefficient = 1;              // reset the fire power after one shot
@@ -317,10 +371,10 @@ public class Tank {
         if (player.isDead)
             return false;
 
-        double tankWidth = this.icon.getWidth() * scale,
-                tankHeight = this.icon.getHeight() * scale,
-                playerWidth = player.getTank().icon.getWidth() * player.getTank().getScale(),
-                playerHeight = player.getTank().icon.getHeight() * player.getTank().getScale(),
+        double tankWidth = this.width * scale,
+                tankHeight = this.height * scale,
+                playerWidth = player.getTank().width * player.getTank().getScale(),
+                playerHeight = player.getTank().height * player.getTank().getScale(),
                 tankCenterX = this.x + tankWidth / 2,
                 tankCenterY = this.y + tankHeight / 2,
                 playerCenterX = player.getTank().getX() + playerWidth / 2,
@@ -338,8 +392,8 @@ public class Tank {
 
         // Get collision side
         int dim = 20, collisionSide = collisionSide(tank.getX() - dim, tank.getY() - dim,
-                (int) (this.icon.getWidth() * tank.getScale() + 2 * dim),
-                (int) (this.icon.getHeight() * tank.getScale() + 2 * dim));
+                (int) (this.width * tank.getScale() + 2 * dim),
+                (int) (this.height * tank.getScale() + 2 * dim));
         double push = 0.1;
 
         // Repel
@@ -382,6 +436,7 @@ public class Tank {
      */
     public void setX(int x) {
         this.x = x;
+        this.xCarry = 0;
     }
 
     /**
@@ -393,6 +448,16 @@ public class Tank {
         this.icon = icon;
     }
 
+    /**
+     * Setter
+     *
+     * @param iconName Tank icon texture name (Loaded on the next draw)
+     */
+    public void setIconName(String iconName) {
+        this.iconName = iconName;
+        this.icon = null;
+    }
+
     /**
      * Setter
      *
@@ -400,6 +465,7 @@ public class Tank {
      */
     public void setY(int y) {
         this.y = y;
+        this.yCarry = 0;
     }
 
     /**
@@ -479,21 +545,18 @@ public class Tank {
      */
     public void setExplosiveName(String explosiveName) {
 
-        // Load the proper backfire icon using the explosive name
-        try {
-            this.explosiveName = explosiveName;
-
-            switch (explosiveName) {
-                case "bomb":
-                    this.backfireIcon = ImageIO.read(new File(TextureReference.getPath("Backfire_small")));
-                    break;
-                case "missile":
-                    this.backfireIcon = ImageIO.read(new File(TextureReference.getPath("Backfire_medium")));
-                    break;
-            }
-        } catch (Exception ex) {
-            this.backfireIcon = null;
-            ex.printStackTrace();
+        // Pick the proper backfire icon using the explosive name (Loaded on the next draw)
+        this.explosiveName = explosiveName;
+
+        switch (explosiveName) {
+            case "bomb":
+                this.backfireIconName = "Backfire_small";
+                this.backfireIcon = null;
+                break;
+            case "missile":
+                this.backfireIconName = "Backfire_medium";
+                this.backfireIcon = null;
+                break;
         }
     }
 
@@ -618,9 +681,29 @@ public class Tank {
     /**
      * Getter
      *
-     * @return Tank's hall icon
+     * @return Tank's unscaled width
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Tank's unscaled height
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Getter
+     *
+     * @return Tank's hall icon (Loaded on first call)
      */
     public BufferedImage getIcon() {
+        if (this.icon == null)
+            this.icon = TextureReference.loadTexture(iconName);
         return this.icon;
     }
 
@@ -666,7 +749,7 @@ class Track {
      */
     private final int x, y;                     // Track's X & Y Axis
     private BufferedImage icon;                 // Track's icon
-    private int lifeSpan;                       // Track's life span
+    private double lifeSpan;                    // Track's life span
     private final double rotation;              // Track's rotation deg
     private final double scale;                 // Track's icon scale
     private final int maxLifeSpan = 15;         // Track's maximum life span
@@ -686,21 +769,27 @@ class Track {
         this.rotation = rotation;
         this.scale = scale;
         this.lifeSpan = 0;
+    }
 
-        // Load icon
-        try {
-            this.icon = ImageIO.read(new File(TextureReference.getPath("tracks")));
-        } catch (Exception ex) {
-            ex.printStackTrace();
-        }
+    /**
+     * Ages the track
+     *
+     * @param dt Length of the tick (Seconds)
+     */
+    public void update(double dt) {
+        this.lifeSpan += lifeSpanInterval * dt * GameLoop.TICK_RATE;
     }
 
     /**
-     * Draws the track
+     * Renders the track
      *
      * @param g2d Graphics2D
      */
-    public void draw(Graphics2D g2d) {
+    public void render(Graphics2D g2d) {
+
+        // Load icon on first draw
+        if (icon == null)
+            icon = TextureReference.loadTexture("tracks");
 
         AffineTransform at = new AffineTransform();
 
@@ -709,9 +798,6 @@ class Track {
         at.scale(scale, scale);                                                                 // Scale icon
         at.translate(-icon.getWidth() / (float) 2, -icon.getHeight() / (float) 2);      // Translate (Again), for easier rotation around the center
         g2d.drawImage(icon, at, null);                                                     // Draw track
-
-        // Reduce lifespan
-        this.lifeSpan += lifeSpanInterval;
     }
 
     /**
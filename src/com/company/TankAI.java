@@ -12,9 +12,8 @@ public class TankAI extends Tank {
     /**
      * Objects, Variables, Components, ...
      */
-    private final int[][] map;                      // Entire map of the game
-    List<Obstacle> obstacles;                       // Pass through objects
     Random random = new Random();
+    private final List<Obstacle> nearbyObstacles = new ArrayList<>();   // Reused obstacle query result
 
     /**
      * AI variables
@@ -35,15 +34,8 @@ public class TankAI extends Tank {
         super(tankName, x, y, explosiveName);
 
         this.desiredRotation = 0;
-        this.obstacles = new ArrayList<>();
-
-        // Get the entire map of the game
-        this.map = ObstacleGenerator.getMap();
         randomDirWhenForwardDetect = 0;
 
-        // Get list of obstacles (Combined)
-        this.obstacles = ObstacleGenerator.obstacles;
-
 //        		List<Cell> path = AStar.getShortestPath(17, 1, 5, 24, ObstacleGenerator.map, ObstacleGenerator.map.length, ObstacleGenerator.map[0].length, 1000);
 //		for (Cell cell: path)
 //			System.out.println(cell.i + ", " + cell.j);
@@ -51,8 +43,10 @@ public class TankAI extends Tank {
 
     /**
      * Step 1, calculate five arbitrary points as sensors in the five directions relative to the tank; as followed: Left, Forward-Left, Forward, Forward-Right & Right
+     *
+     * @param grid Spatial index of the game's obstacles (The sensors look around in it)
      */
-    public int[] decide() {
+    public int[] decide(ObstacleGrid grid) {
 
         // Variables
         int dir = 0, rotation = 0;
@@ -66,7 +60,7 @@ public class TankAI extends Tank {
         sensors.add(new Sensor(this.x + (int)(Math.cos(this.rotation + Math.PI / 4) * this.sight * 0.8), this.y + (int)(Math.sin(this.rotation + Math.PI / 4) * this.sight * 0.8)));        // Forward-Right sensor
         sensors.add(new Sensor(this.x + (int)(Math.cos(this.rotation - Math.PI / 4) * this.sight * 0.8), this.y + (int)(Math.sin(this.rotation - Math.PI / 4) * this.sight * 0.8)));        // Forward-Left sensor
 
-        runSensors();
+        runSensors(grid);
 
         if (sensors.get(0).pick) {                                      // Obstacle reported ahead!
             if (!sensors.get(1).pick)                                   // Go right
@@ -94,10 +88,12 @@ public class TankAI extends Tank {
 
     /**
      * Get's list of obstacles in sight (Combined)
+     *
+     * @param grid Spatial index of the game's obstacles
      */
-    private void runSensors() {
+    private void runSensors(ObstacleGrid grid) {
         for (Sensor sensor : sensors)
-            for (Obstacle obstacle : obstacles)
+            for (Obstacle obstacle : grid.query(sensor.x, sensor.y, 0, 0, nearbyObstacles))
                 if (!(obstacle instanceof Corner))
                     if (!sensor.pick)       // If not picking anything, search. If not, keep the sensor beep
                         sensor.checkPick(obstacle.getX(), obstacle.getY(), obstacle.getWidth(), obstacle.getHeight());
@@ -3,12 +3,24 @@ package com.company;
 /**
  * Imports
  */
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Texture reference class
- * <p>This class is used to store a hashed map connecting each texture to its corresponding path</p>
+ * <p>This class is used to store a hashed map connecting each texture to its corresponding path. It also works as a
+ * process-wide asset cache, so each texture is decoded only once and then shared between all game objects</p>
+ *
+ * <p>Game objects load their textures the first time they are drawn, so a game that is never drawn (ie. a headless
+ * GameManager) decodes none, while the other games of the process still do</p>
  *
  * @author Keivan Ipchi Hagh & Bardia Ardakanian
  * @version 0.1.0
@@ -71,6 +83,32 @@ public class TextureReference {
         }
     };
 
+    /**
+     * This hashmap relates the textures whose size matters to the game rules (ie. collisions) to their size, so the
+     * game can be simulated without decoding any texture (Headless mode)
+     */
+    private final static Map<String, Dimension> textureSizes = new HashMap<>() {
+        {
+            // Tank textures
+            put("tank_black", new Dimension(42, 46));
+            put("tank_blue", new Dimension(42, 46));
+            put("tank_red", new Dimension(38, 46));
+            put("tank_green", new Dimension(42, 46));
+            put("tank_sand", new Dimension(42, 46));
+
+            // AirSupport
+            put("plane", new Dimension(100, 82));
+            put("nuke", new Dimension(44, 44));
+        }
+    };
+
+    /**
+     * Decoded textures, shared by every game object that uses them (Never draw onto these images!)
+     */
+    private final static Map<String, BufferedImage> textureCache = new ConcurrentHashMap<>();
+    private final static AtomicLong hitCount = new AtomicLong();        // Number of lookups served from the cache
+    private final static AtomicLong missCount = new AtomicLong();       // Number of lookups that had to decode the file
+
     /**
      * This method returns the corresponding path using its Key
      *
@@ -84,4 +122,96 @@ public class TextureReference {
         else
             throw new Exception("Texture does not exist!");
     }
+
+    /**
+     * Getter
+     *
+     * @return Names of all the registered textures
+     */
+    public static List<String> getTextureNames() {
+        return new ArrayList<>(textureMap.keySet());
+    }
+
+    /**
+     * This method returns the decoded texture using its Key
+     * <p>The texture is read from the disk only the first time it is requested, every other call returns the very same
+     * image. The returned image is shared, so it must be treated as read-only</p>
+     *
+     * @param texture Texture name
+     * @return Decoded texture
+     * @throws Exception Texture does not exist or could not be decoded!
+     */
+    public static BufferedImage getTexture(String texture) throws Exception {
+        BufferedImage image = textureCache.get(texture);
+        if (image != null) {
+            hitCount.incrementAndGet();
+            return image;
+        }
+
+        // Decode the texture (Two threads may both miss, but only the first decoded image is kept)
+        missCount.incrementAndGet();
+        image = ImageIO.read(new File(getPath(texture)));
+        if (image == null)
+            throw new Exception("Texture could not be decoded!");
+
+        BufferedImage cached = textureCache.putIfAbsent(texture, image);
+        return cached != null ? cached : image;
+    }
+
+    /**
+     * This method returns the decoded texture using its Key, for the game objects that load their textures as they are
+     * first drawn
+     *
+     * @param texture Texture name
+     * @return Decoded texture (Null if it does not exist or could not be decoded, the error is printed)
+     */
+    public static BufferedImage loadTexture(String texture) {
+        try {
+            return getTexture(texture);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * This method returns the size of the texture from the metadata, without decoding it
+     *
+     * @param texture Texture name
+     * @return Texture size (Pixels)
+     * @throws Exception Texture does not have any size metadata!
+     */
+    public static Dimension getTextureSize(String texture) throws Exception {
+        if (textureSizes.containsKey(texture))
+            return new Dimension(textureSizes.get(texture));
+        else
+            throw new Exception("Texture has no size metadata!");
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of texture lookups served from the cache
+     */
+    public static long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of texture lookups that decoded the file
+     */
+    public static long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Getter
+     *
+     * @return Number of decoded textures currently held by the cache
+     */
+    public static int getCachedCount() {
+        return textureCache.size();
+    }
 }
\ No newline at end of file